@@ -0,0 +1,58 @@
+package tech.theraven.customers_api.benchmark;
+
+import tech.theraven.customers_api.model.Customer;
+import tech.theraven.customers_api.model.dto.CustomerCreateDTO;
+import tech.theraven.customers_api.model.dto.CustomerInfo;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic fixtures shared by the benchmarks, so that runs are comparable with each other.
+ */
+final class BenchmarkData {
+
+    private static final Instant CREATED = Instant.parse("2024-01-01T00:00:00Z");
+
+    private BenchmarkData() {
+    }
+
+    static Customer customer(long id) {
+        return Customer.builder()
+                .id(id)
+                .fullName("Customer " + id)
+                .email("customer" + id + "@example.com")
+                .phone(phone(id))
+                .isActive(Boolean.TRUE)
+                .created(CREATED)
+                .updated(CREATED.plusSeconds(id))
+                .version(0L)
+                .build();
+    }
+
+    static CustomerCreateDTO createDTO(long id) {
+        var dto = new CustomerCreateDTO();
+        dto.setFullName("Customer " + id);
+        dto.setEmail("customer" + id + "@example.com");
+        dto.setPhone(phone(id));
+        return dto;
+    }
+
+    static List<CustomerInfo> customerInfos(int size) {
+        var infos = new ArrayList<CustomerInfo>(size);
+        for (long id = 1; id <= size; id++) {
+            var info = new CustomerInfo();
+            info.setId(id);
+            info.setFullName("Customer " + id);
+            info.setEmail("customer" + id + "@example.com");
+            info.setPhone(phone(id));
+            infos.add(info);
+        }
+        return infos;
+    }
+
+    private static String phone(long id) {
+        return "+380" + String.format("%09d", id);
+    }
+}
@@ -0,0 +1,104 @@
+package tech.theraven.customers_api.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the benchmarks and optionally gates them against a baseline.
+ * <p>
+ * Every run writes the raw JMH results to {@code results.json} and a flat {@code scores.properties} file to the
+ * {@code benchmark.output} directory. Passing the scores file of a previous run (e.g. of the main branch) as
+ * {@code benchmark.baseline} makes the runner fail when any benchmark got slower than {@code benchmark.tolerance}
+ * allows:
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.baseline=baseline/scores.properties
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+    private static final String RESULTS_FILE = "results.json";
+    private static final String SCORES_FILE = "scores.properties";
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        var includes = System.getProperty("benchmark.includes", ".*");
+        var output = Path.of(System.getProperty("benchmark.output", "target/jmh"));
+        var baseline = System.getProperty("benchmark.baseline", "");
+        var tolerance = Double.parseDouble(System.getProperty("benchmark.tolerance", "0.10"));
+
+        Files.createDirectories(output);
+        var options = new OptionsBuilder()
+                .include(includes)
+                .resultFormat(ResultFormatType.JSON)
+                .result(output.resolve(RESULTS_FILE).toString())
+                .build();
+        var results = new Runner(options).run();
+
+        var scores = toScores(results);
+        try (Writer writer = Files.newBufferedWriter(output.resolve(SCORES_FILE))) {
+            scores.store(writer, "JMH scores");
+        }
+
+        if (!baseline.isBlank() && !isWithinBaseline(results, load(Path.of(baseline)), tolerance)) {
+            System.exit(1);
+        }
+    }
+
+    private static Properties toScores(Collection<RunResult> results) {
+        var scores = new Properties();
+        results.forEach(result -> scores.setProperty(key(result), String.valueOf(result.getPrimaryResult().getScore())));
+        return scores;
+    }
+
+    private static boolean isWithinBaseline(Collection<RunResult> results, Properties baseline, double tolerance) {
+        var withinBaseline = true;
+        for (var result : results) {
+            var key = key(result);
+            var baselineScore = baseline.getProperty(key);
+            if (baselineScore == null) {
+                System.out.printf("NEW        %s%n", key);
+                continue;
+            }
+
+            var expected = Double.parseDouble(baselineScore);
+            var actual = result.getPrimaryResult().getScore();
+            // Throughput is better when higher, every other mode measures time and is better when lower
+            var change = result.getParams().getMode() == Mode.Throughput
+                    ? (expected - actual) / expected
+                    : (actual - expected) / expected;
+            var regressed = change > tolerance;
+            withinBaseline &= !regressed;
+            System.out.printf("%-10s %s: %.3f -> %.3f %s (%+.1f%%)%n", regressed ? "REGRESSION" : "OK", key,
+                    expected, actual, result.getPrimaryResult().getScoreUnit(), change * 100);
+        }
+        return withinBaseline;
+    }
+
+    private static String key(RunResult result) {
+        var params = result.getParams();
+        var paramsSuffix = params.getParamsKeys().stream()
+                .map(param -> param + "=" + params.getParam(param))
+                .collect(Collectors.joining(",", "[", "]"));
+        return params.getParamsKeys().isEmpty() ? params.getBenchmark() : params.getBenchmark() + paramsSuffix;
+    }
+
+    private static Properties load(Path path) throws IOException {
+        var properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+}
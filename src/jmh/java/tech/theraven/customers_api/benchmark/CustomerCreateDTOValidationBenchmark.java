@@ -0,0 +1,60 @@
+package tech.theraven.customers_api.benchmark;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import tech.theraven.customers_api.model.dto.CustomerCreateDTO;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static tech.theraven.customers_api.constants.ValidationConstants.PHONE_REGEX;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerCreateDTOValidationBenchmark {
+
+    private static final Pattern PHONE_PATTERN = Pattern.compile(PHONE_REGEX);
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private CustomerCreateDTO validCustomer;
+    private CustomerCreateDTO invalidCustomer;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validCustomer = BenchmarkData.createDTO(42L);
+        invalidCustomer = BenchmarkData.createDTO(42L);
+        invalidCustomer.setEmail("invalid_email");
+        invalidCustomer.setPhone("invalid_phone");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CustomerCreateDTO>> validateValidCustomer() {
+        return validator.validate(validCustomer);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CustomerCreateDTO>> validateInvalidCustomer() {
+        return validator.validate(invalidCustomer);
+    }
+
+    @Benchmark
+    public boolean matchPhoneRegex() {
+        return PHONE_PATTERN.matcher(validCustomer.getPhone()).matches();
+    }
+}
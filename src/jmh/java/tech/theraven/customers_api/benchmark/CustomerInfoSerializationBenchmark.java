@@ -0,0 +1,41 @@
+package tech.theraven.customers_api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import tech.theraven.customers_api.model.dto.CustomerInfo;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of writing a list response body, without the allocation of the resulting byte array.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerInfoSerializationBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    private List<CustomerInfo> customers;
+
+    @Setup
+    public void setUp() {
+        customers = BenchmarkData.customerInfos(size);
+    }
+
+    @Benchmark
+    public void writeCustomerInfos() throws IOException {
+        objectMapper.writeValue(sink, customers);
+    }
+}
@@ -0,0 +1,40 @@
+package tech.theraven.customers_api.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import tech.theraven.customers_api.mapper.CustomerMapper;
+import tech.theraven.customers_api.mapper.CustomerMapperImpl;
+import tech.theraven.customers_api.model.Customer;
+import tech.theraven.customers_api.model.dto.CustomerCreateDTO;
+import tech.theraven.customers_api.model.dto.CustomerInfo;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerMapperBenchmark {
+
+    private final CustomerMapper mapper = new CustomerMapperImpl();
+
+    private Customer customer;
+    private CustomerCreateDTO createDTO;
+
+    @Setup
+    public void setUp() {
+        customer = BenchmarkData.customer(42L);
+        createDTO = BenchmarkData.createDTO(42L);
+    }
+
+    @Benchmark
+    public Customer toCustomer() {
+        return mapper.toCustomer(createDTO);
+    }
+
+    @Benchmark
+    public CustomerInfo toCustomerInfo() {
+        return mapper.toCustomerInfo(customer);
+    }
+}
@@ -0,0 +1,106 @@
+package tech.theraven.customers_api.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tech.theraven.customers_api.CustomersApiApplication;
+import tech.theraven.customers_api.model.Customer;
+import tech.theraven.customers_api.model.dto.BatchItemResult;
+import tech.theraven.customers_api.service.CustomerService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end {@link CustomerService} calls against the same Testcontainers PostgreSQL database the integration
+ * tests use, with all migrations applied and {@value #SEED_SIZE} extra customers seeded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CustomerServiceBenchmark {
+
+    private static final int SEED_SIZE = 10_000;
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final int PAGE_SIZE = 50;
+
+    private final AtomicLong sequence = new AtomicLong(SEED_SIZE);
+
+    private ConfigurableApplicationContext context;
+    private CustomerService customerService;
+    private List<Long> customerIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(CustomersApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("integration")
+                .run("--spring.jpa.show-sql=false");
+        customerService = context.getBean(CustomerService.class);
+        customerIds = seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Customer create() {
+        return customerService.create(newCustomer(sequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public Customer getById() {
+        return customerService.getById(randomCustomerId());
+    }
+
+    @Benchmark
+    public List<Customer> getCustomersPage() {
+        return customerService.getCustomers(randomCustomerId(), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Customer update() {
+        var id = randomCustomerId();
+        var customer = Customer.builder()
+                .fullName("Updated " + id)
+                .phone("+380" + String.format("%09d", sequence.incrementAndGet()))
+                .build();
+        return customerService.update(id, customer);
+    }
+
+    private List<Long> seed() {
+        var ids = new ArrayList<Long>(SEED_SIZE);
+        for (int from = 0; from < SEED_SIZE; from += SEED_BATCH_SIZE) {
+            var batch = new ArrayList<Customer>(SEED_BATCH_SIZE);
+            for (int i = from; i < from + SEED_BATCH_SIZE; i++) {
+                batch.add(newCustomer(i));
+            }
+            customerService.createAll(batch).stream()
+                    .map(BatchItemResult::result)
+                    .map(Customer::getId)
+                    .forEach(ids::add);
+        }
+        return ids;
+    }
+
+    private Long randomCustomerId() {
+        return customerIds.get(ThreadLocalRandom.current().nextInt(customerIds.size()));
+    }
+
+    private static Customer newCustomer(long number) {
+        return Customer.builder()
+                .fullName("Customer " + number)
+                .email("benchmark" + number + "@example.com")
+                .phone("+380" + String.format("%09d", number))
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package tech.theraven.customers_api.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import tech.theraven.customers_api.converter.InstantToLongConverter;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstantToLongConverterBenchmark {
+
+    private final InstantToLongConverter converter = new InstantToLongConverter();
+
+    private Instant instant;
+    private Long epochSecond;
+
+    @Setup
+    public void setUp() {
+        instant = Instant.parse("2024-01-01T00:00:00Z");
+        epochSecond = instant.getEpochSecond();
+    }
+
+    @Benchmark
+    public Long convertToDatabaseColumn() {
+        return converter.convertToDatabaseColumn(instant);
+    }
+
+    @Benchmark
+    public Instant convertToEntityAttribute() {
+        return converter.convertToEntityAttribute(epochSecond);
+    }
+}
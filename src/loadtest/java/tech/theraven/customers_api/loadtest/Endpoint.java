@@ -0,0 +1,28 @@
+package tech.theraven.customers_api.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Customer endpoints driven by the load test, with the statuses that count as a successful call.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Endpoint {
+    GET_BY_ID("get-by-id", Set.of(200)),
+    CREATE("create", Set.of(201)),
+    UPDATE("update", Set.of(200)),
+    // Deactivating an already inactive customer is part of the churn, not an error
+    DEACTIVATE("deactivate", Set.of(204, 304)),
+    LIST("list", Set.of(200)),
+    EXPORT("export", Set.of(200));
+
+    private final String key;
+    private final Set<Integer> expectedStatuses;
+
+    public boolean isExpected(int status) {
+        return expectedStatuses.contains(status);
+    }
+}
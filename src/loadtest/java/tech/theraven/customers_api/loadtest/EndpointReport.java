@@ -0,0 +1,42 @@
+package tech.theraven.customers_api.loadtest;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Measured latencies and throughput of one endpoint over the measurement window.
+ */
+record EndpointReport(Endpoint endpoint, int requests, long errors, double throughput,
+                      Duration p50, Duration p99, Duration p999) {
+
+    static final String CSV_HEADER = "endpoint,requests,errors,throughput_rps,p50_ms,p99_ms,p999_ms";
+
+    static EndpointReport of(Endpoint endpoint, LatencySamples samples, Duration window) {
+        return new EndpointReport(endpoint, samples.size(), samples.errors(),
+                samples.size() / (window.toNanos() / 1e9),
+                samples.percentile(50), samples.percentile(99), samples.percentile(99.9));
+    }
+
+    double errorRate() {
+        var total = requests + errors;
+        return total == 0 ? 0 : (double) errors / total;
+    }
+
+    Duration percentile(String name) {
+        return switch (name) {
+            case "p50" -> p50;
+            case "p99" -> p99;
+            case "p999" -> p999;
+            default -> throw new IllegalArgumentException("Unknown percentile " + name);
+        };
+    }
+
+    String toCsv() {
+        return String.format(Locale.ROOT, "%s,%d,%d,%.1f,%.3f,%.3f,%.3f", endpoint.getKey(), requests, errors, throughput,
+                millis(p50), millis(p99), millis(p999));
+    }
+
+    static double millis(Duration duration) {
+        return duration.toNanos() / 1e6;
+    }
+}
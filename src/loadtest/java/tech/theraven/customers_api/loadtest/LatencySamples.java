@@ -0,0 +1,58 @@
+package tech.theraven.customers_api.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Growable buffer of latencies in nanoseconds. Not thread-safe: every worker records into its own instance
+ * and the instances are merged once the run is over.
+ */
+class LatencySamples {
+
+    private long[] samples = new long[1024];
+    private int size;
+    private long errors;
+    private boolean sorted = true;
+
+    void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+        sorted = false;
+    }
+
+    void recordError() {
+        errors++;
+    }
+
+    void merge(LatencySamples other) {
+        for (int i = 0; i < other.size; i++) {
+            record(other.samples[i]);
+        }
+        errors += other.errors;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    /**
+     * Returns the given percentile using the nearest-rank method.
+     */
+    Duration percentile(double percentile) {
+        if (size == 0) {
+            return Duration.ZERO;
+        }
+        if (!sorted) {
+            Arrays.sort(samples, 0, size);
+            sorted = true;
+        }
+        var rank = (int) Math.ceil(percentile / 100 * size);
+        return Duration.ofNanos(samples[Math.max(rank, 1) - 1]);
+    }
+}
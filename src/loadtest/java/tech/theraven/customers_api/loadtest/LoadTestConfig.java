@@ -0,0 +1,110 @@
+package tech.theraven.customers_api.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Properties;
+
+/**
+ * Load test settings read from {@value #CONFIG_FILE}. Any setting can be overridden with a system property of
+ * the same name, e.g. {@code -Dloadtest.concurrency=256}.
+ * <p>
+ * System properties prefixed with {@value #APP_PROPERTY_PREFIX} are passed to the application under test with
+ * the prefix removed, e.g. {@code -Dloadtest.app.spring.threads.virtual.enabled=true}.
+ */
+class LoadTestConfig {
+
+    private static final String CONFIG_FILE = "loadtest.properties";
+    private static final String PREFIX = "loadtest.";
+    private static final String APP_PROPERTY_PREFIX = PREFIX + "app.";
+
+    private final Properties properties = new Properties();
+
+    LoadTestConfig() {
+        try (InputStream input = LoadTestConfig.class.getClassLoader().getResourceAsStream(CONFIG_FILE)) {
+            if (input != null) {
+                properties.load(input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + CONFIG_FILE, e);
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(PREFIX))
+                .forEach(name -> properties.setProperty(name, System.getProperty(name)));
+    }
+
+    int seedSize() {
+        return Integer.parseInt(required("seed-size"));
+    }
+
+    int concurrency() {
+        return Integer.parseInt(required("concurrency"));
+    }
+
+    Duration warmup() {
+        return DurationStyle.detectAndParse(required("warmup"));
+    }
+
+    Duration duration() {
+        return DurationStyle.detectAndParse(required("duration"));
+    }
+
+    Path output() {
+        return Path.of(required("output"));
+    }
+
+    Map<Endpoint, Integer> weights() {
+        var weights = new EnumMap<Endpoint, Integer>(Endpoint.class);
+        for (var endpoint : Endpoint.values()) {
+            var weight = Integer.parseInt(properties.getProperty(PREFIX + "weight." + endpoint.getKey(), "0"));
+            if (weight > 0) {
+                weights.put(endpoint, weight);
+            }
+        }
+        return weights;
+    }
+
+    /**
+     * Latency objective for the given percentile of an endpoint, e.g. {@code loadtest.slo.get-by-id.p99=25ms}.
+     */
+    Optional<Duration> latencySlo(Endpoint endpoint, String percentile) {
+        return Optional.ofNullable(properties.getProperty(PREFIX + "slo." + endpoint.getKey() + "." + percentile))
+                .map(DurationStyle::detectAndParse);
+    }
+
+    /**
+     * Minimum requests per second for an endpoint, e.g. {@code loadtest.slo.get-by-id.min-throughput=500}.
+     */
+    OptionalDouble minThroughput(Endpoint endpoint) {
+        var value = properties.getProperty(PREFIX + "slo." + endpoint.getKey() + ".min-throughput");
+        return value != null ? OptionalDouble.of(Double.parseDouble(value)) : OptionalDouble.empty();
+    }
+
+    double maxErrorRate() {
+        return Double.parseDouble(required("slo.max-error-rate"));
+    }
+
+    List<String> appProperties() {
+        return System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(APP_PROPERTY_PREFIX))
+                .map(name -> name.substring(APP_PROPERTY_PREFIX.length()) + "=" + System.getProperty(name))
+                .toList();
+    }
+
+    private String required(String name) {
+        var value = properties.getProperty(PREFIX + name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException("Missing load test setting " + PREFIX + name);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,214 @@
+package tech.theraven.customers_api.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import tech.theraven.customers_api.CustomersApiApplication;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Starts the application against a fresh Testcontainers PostgreSQL database, seeds it and drives the configured
+ * workload mix against {@code /api/customers}. Reports latency percentiles and throughput per endpoint to
+ * the console and to {@code report.csv}, and fails when a service level objective from {@link LoadTestConfig}
+ * is missed:
+ * <pre>
+ * ./mvnw -Ploadtest test-compile exec:java -Dloadtest.concurrency=256
+ * </pre>
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    private static final String POSTGRES_IMAGE = "postgres:16-alpine";
+
+    private static final String SEED_SQL = """
+            INSERT INTO customers (full_name, email, phone, is_active, created, updated)
+            SELECT 'Load Test ' || n, 'loadtest' || n || '@example.com', '+380' || lpad(n::text, 9, '0'), TRUE, ?, ?
+            FROM generate_series(1, ?) AS n""";
+
+    public static void main(String[] args) throws Exception {
+        var config = new LoadTestConfig();
+        var reports = execute(config);
+        write(reports, config);
+        if (!meetsObjectives(reports, config)) {
+            throw new IllegalStateException("Load test missed its service level objectives");
+        }
+    }
+
+    /**
+     * Starts a fresh database and application with the given extra properties, seeds it, runs the workload and
+     * prints the report.
+     */
+    static List<EndpointReport> execute(LoadTestConfig config, String... appProperties)
+            throws InterruptedException, ExecutionException {
+        try (var database = new PostgreSQLContainer<>(POSTGRES_IMAGE)) {
+            database.start();
+            try (var context = startApplication(config, database, appProperties)) {
+                var customerIds = seed(context, config.seedSize());
+                var port = context.getEnvironment().getRequiredProperty("local.server.port");
+                var workload = new Workload("http://localhost:" + port, customerIds, config.weights());
+
+                var reports = run(workload, config);
+                print(reports);
+                return reports;
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestConfig config,
+                                                                   PostgreSQLContainer<?> database,
+                                                                   String... appProperties) {
+        var r2dbcUrl = "r2dbc:postgresql://%s:%d/%s".formatted(database.getHost(),
+                database.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT), database.getDatabaseName());
+        var properties = Stream.of(
+                        Stream.of(
+                                "server.port=0",
+                                "spring.datasource.url=" + database.getJdbcUrl(),
+                                "spring.datasource.username=" + database.getUsername(),
+                                "spring.datasource.password=" + database.getPassword(),
+                                "spring.r2dbc.url=" + r2dbcUrl,
+                                "spring.r2dbc.username=" + database.getUsername(),
+                                "spring.r2dbc.password=" + database.getPassword(),
+                                "spring.jpa.show-sql=false",
+                                // Expected 304 and 404 responses would otherwise be logged on every call
+                                "logging.level.tech.theraven.customers_api.exceptions=OFF"),
+                        config.appProperties().stream(),
+                        Arrays.stream(appProperties))
+                .flatMap(Function.identity())
+                // Passed as command line arguments, so that they take precedence over application.yml
+                .map(property -> "--" + property)
+                .toArray(String[]::new);
+        // The database properties above take precedence over the datasource of the integration profile
+        return new SpringApplicationBuilder(CustomersApiApplication.class)
+                .profiles("integration")
+                .run(properties);
+    }
+
+    private static long[] seed(ConfigurableApplicationContext context, int seedSize) {
+        var jdbcTemplate = context.getBean(JdbcTemplate.class);
+        var now = Instant.now().getEpochSecond();
+        var started = System.nanoTime();
+        jdbcTemplate.update(SEED_SQL, now, now, seedSize);
+        log.info("Seeded {} customers in {} ms", seedSize, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        return jdbcTemplate.queryForList("SELECT id FROM customers", Long.class).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    private static List<EndpointReport> run(Workload workload, LoadTestConfig config)
+            throws InterruptedException, ExecutionException {
+        var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        var measureFrom = System.nanoTime() + config.warmup().toNanos();
+        var measureUntil = measureFrom + config.duration().toNanos();
+        log.info("Running {} workers for {} after a {} warmup", config.concurrency(), config.duration(), config.warmup());
+
+        var workers = new ArrayList<Future<Map<Endpoint, LatencySamples>>>();
+        // Workers run on virtual threads, so that the client does not cap the concurrency it generates
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.concurrency(); i++) {
+                workers.add(executor.submit(worker(client, workload, measureFrom, measureUntil)));
+            }
+        }
+
+        var samples = new EnumMap<Endpoint, LatencySamples>(Endpoint.class);
+        for (var worker : workers) {
+            worker.get().forEach((endpoint, workerSamples) ->
+                    samples.computeIfAbsent(endpoint, key -> new LatencySamples()).merge(workerSamples));
+        }
+        return samples.entrySet().stream()
+                .map(entry -> EndpointReport.of(entry.getKey(), entry.getValue(), config.duration()))
+                .toList();
+    }
+
+    private static Callable<Map<Endpoint, LatencySamples>> worker(HttpClient client, Workload workload,
+                                                                 long measureFrom, long measureUntil) {
+        return () -> {
+            var samples = new EnumMap<Endpoint, LatencySamples>(Endpoint.class);
+            long started;
+            while ((started = System.nanoTime()) < measureUntil) {
+                var endpoint = workload.nextEndpoint();
+                var expected = false;
+                try {
+                    var response = client.send(workload.request(endpoint), HttpResponse.BodyHandlers.discarding());
+                    expected = endpoint.isExpected(response.statusCode());
+                } catch (IOException e) {
+                    log.debug("{} request failed", endpoint, e);
+                }
+                var latency = System.nanoTime() - started;
+
+                if (started >= measureFrom) {
+                    var endpointSamples = samples.computeIfAbsent(endpoint, key -> new LatencySamples());
+                    if (expected) {
+                        endpointSamples.record(latency);
+                    } else {
+                        endpointSamples.recordError();
+                    }
+                }
+            }
+            return samples;
+        };
+    }
+
+    private static void print(List<EndpointReport> reports) {
+        System.out.printf("%n%-12s %10s %8s %12s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms");
+        reports.forEach(report -> System.out.printf(Locale.ROOT, "%-12s %10d %8d %12.1f %10.3f %10.3f %10.3f%n",
+                report.endpoint().getKey(), report.requests(), report.errors(), report.throughput(),
+                EndpointReport.millis(report.p50()), EndpointReport.millis(report.p99()),
+                EndpointReport.millis(report.p999())));
+        System.out.println();
+    }
+
+    static void write(List<EndpointReport> reports, LoadTestConfig config) throws IOException {
+        Files.createDirectories(config.output());
+        var lines = new ArrayList<String>();
+        lines.add(EndpointReport.CSV_HEADER);
+        reports.forEach(report -> lines.add(report.toCsv()));
+        Files.write(config.output().resolve("report.csv"), lines);
+    }
+
+    private static boolean meetsObjectives(List<EndpointReport> reports, LoadTestConfig config) {
+        var violations = new ArrayList<String>();
+        for (var report : reports) {
+            var key = report.endpoint().getKey();
+            if (report.errorRate() > config.maxErrorRate()) {
+                violations.add(String.format(Locale.ROOT, "%s error rate %.4f > %.4f",
+                        key, report.errorRate(), config.maxErrorRate()));
+            }
+            for (var percentile : List.of("p50", "p99", "p999")) {
+                config.latencySlo(report.endpoint(), percentile)
+                        .filter(slo -> report.percentile(percentile).compareTo(slo) > 0)
+                        .ifPresent(slo -> violations.add(String.format(Locale.ROOT, "%s %s %.3f ms > %d ms",
+                                key, percentile, EndpointReport.millis(report.percentile(percentile)), slo.toMillis())));
+            }
+            config.minThroughput(report.endpoint()).ifPresent(minThroughput -> {
+                if (report.throughput() < minThroughput) {
+                    violations.add(String.format(Locale.ROOT, "%s throughput %.1f req/s < %.1f req/s",
+                            key, report.throughput(), minThroughput));
+                }
+            });
+        }
+
+        violations.forEach(violation -> log.error("SLO missed: {}", violation));
+        return violations.isEmpty();
+    }
+}
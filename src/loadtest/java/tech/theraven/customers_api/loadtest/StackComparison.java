@@ -0,0 +1,69 @@
+package tech.theraven.customers_api.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Runs the same workload against every execution stack of the application and reports throughput and
+ * latency percentiles of each side by side:
+ * <ul>
+ *     <li>{@code mvc-platform}: Spring MVC on Tomcat's platform thread pool</li>
+ *     <li>{@code mvc-virtual}: Spring MVC on virtual threads</li>
+ *     <li>{@code webflux}: the {@code reactive} profile, WebFlux on Netty with R2DBC</li>
+ * </ul>
+ * Meant to be run at a concurrency well above the size of the platform thread pool:
+ * <pre>
+ * ./mvnw -Ploadtest test-compile exec:java -Dexec.mainClass=tech.theraven.customers_api.loadtest.StackComparison \
+ *     -Dloadtest.concurrency=1000
+ * </pre>
+ * A subset of the stacks can be selected with {@code -Dloadtest.stacks=mvc-platform,webflux}.
+ * {@link ThreadModeComparison} compares only the two MVC thread modes, per endpoint in one table.
+ */
+@Slf4j
+public class StackComparison {
+
+    private static final Map<String, String[]> STACKS = new LinkedHashMap<>();
+
+    static {
+        STACKS.put("mvc-platform", new String[]{"spring.threads.virtual.enabled=false"});
+        STACKS.put("mvc-virtual", new String[]{"spring.threads.virtual.enabled=true"});
+        STACKS.put("webflux", new String[]{"spring.profiles.active=reactive"});
+    }
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException, IOException {
+        var config = new LoadTestConfig();
+        var stacks = System.getProperty("loadtest.stacks", String.join(",", STACKS.keySet())).split(",");
+
+        var lines = new ArrayList<String>();
+        lines.add("stack," + EndpointReport.CSV_HEADER);
+        var summary = new ArrayList<String>();
+        for (var stack : stacks) {
+            var appProperties = STACKS.get(stack.trim());
+            if (appProperties == null) {
+                throw new IllegalArgumentException("Unknown stack " + stack + ", expected one of " + STACKS.keySet());
+            }
+            log.info("Running against {}", stack);
+            List<EndpointReport> reports = LoadTestRunner.execute(config, appProperties);
+            reports.forEach(report -> {
+                lines.add(stack + "," + report.toCsv());
+                summary.add(String.format(Locale.ROOT, "%-14s %-12s %12.1f %10.3f %10.3f %10.3f", stack,
+                        report.endpoint().getKey(), report.throughput(), EndpointReport.millis(report.p50()),
+                        EndpointReport.millis(report.p99()), EndpointReport.millis(report.p999())));
+            });
+        }
+
+        System.out.printf("%n%-14s %-12s %12s %10s %10s %10s%n", "stack", "endpoint", "req/s", "p50 ms", "p99 ms", "p999 ms");
+        summary.forEach(System.out::println);
+
+        Files.createDirectories(config.output());
+        Files.write(config.output().resolve("stack-comparison.csv"), lines);
+    }
+}
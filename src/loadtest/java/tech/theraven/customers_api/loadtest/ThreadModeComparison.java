@@ -0,0 +1,69 @@
+package tech.theraven.customers_api.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the same workload twice, once on Tomcat's platform thread pool and once on virtual threads, and reports
+ * throughput and tail latency of both modes side by side. Meant to be run at a concurrency well above the size of
+ * the platform thread pool:
+ * <pre>
+ * ./mvnw -Ploadtest test-compile exec:java -Dexec.mainClass=tech.theraven.customers_api.loadtest.ThreadModeComparison \
+ *     -Dloadtest.concurrency=1000
+ * </pre>
+ */
+@Slf4j
+public class ThreadModeComparison {
+
+    private static final String VIRTUAL_THREADS_PROPERTY = "spring.threads.virtual.enabled=";
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException, IOException {
+        var config = new LoadTestConfig();
+
+        log.info("Running with platform threads");
+        var platform = byEndpoint(LoadTestRunner.execute(config, VIRTUAL_THREADS_PROPERTY + false));
+        log.info("Running with virtual threads");
+        var virtual = byEndpoint(LoadTestRunner.execute(config, VIRTUAL_THREADS_PROPERTY + true));
+
+        var lines = new ArrayList<String>();
+        lines.add("endpoint,platform_rps,virtual_rps,platform_p99_ms,virtual_p99_ms,platform_p999_ms,virtual_p999_ms");
+        System.out.printf("%n%-12s %14s %14s %14s %14s %14s %14s%n", "endpoint",
+                "platform req/s", "virtual req/s", "platform p99", "virtual p99", "platform p999", "virtual p999");
+        for (var endpoint : platform.keySet()) {
+            var platformReport = platform.get(endpoint);
+            var virtualReport = virtual.get(endpoint);
+            if (virtualReport == null) {
+                continue;
+            }
+            var values = List.of(
+                    platformReport.throughput(), virtualReport.throughput(),
+                    EndpointReport.millis(platformReport.p99()), EndpointReport.millis(virtualReport.p99()),
+                    EndpointReport.millis(platformReport.p999()), EndpointReport.millis(virtualReport.p999()));
+            System.out.printf(Locale.ROOT, "%-12s %14.1f %14.1f %14.3f %14.3f %14.3f %14.3f%n",
+                    endpoint.getKey(), values.get(0), values.get(1), values.get(2), values.get(3), values.get(4),
+                    values.get(5));
+            lines.add(endpoint.getKey() + "," + values.stream()
+                    .map(value -> String.format(Locale.ROOT, "%.3f", value))
+                    .collect(Collectors.joining(",")));
+        }
+
+        Files.createDirectories(config.output());
+        Files.write(config.output().resolve("thread-mode-comparison.csv"), lines);
+    }
+
+    private static Map<Endpoint, EndpointReport> byEndpoint(List<EndpointReport> reports) {
+        return reports.stream()
+                .collect(Collectors.toMap(EndpointReport::endpoint, Function.identity(), (first, second) -> first,
+                        () -> new EnumMap<>(Endpoint.class)));
+    }
+}
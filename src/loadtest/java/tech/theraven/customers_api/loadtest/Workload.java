@@ -0,0 +1,103 @@
+package tech.theraven.customers_api.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import tech.theraven.customers_api.util.CursorCodec;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+
+/**
+ * Builds the requests of the workload mix, picking the endpoint by weight and the customer at random
+ * from the seeded ones.
+ */
+class Workload {
+
+    private static final String CUSTOMERS_PATH = "/api/customers";
+    private static final int PAGE_SIZE = 50;
+
+    private final String baseUrl;
+    private final long[] customerIds;
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong sequence = new AtomicLong();
+
+    Workload(String baseUrl, long[] customerIds, Map<Endpoint, Integer> weights) {
+        this.baseUrl = baseUrl + CUSTOMERS_PATH;
+        this.customerIds = customerIds;
+        this.endpoints = weights.keySet().toArray(Endpoint[]::new);
+        this.cumulativeWeights = new int[endpoints.length];
+        var total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += weights.get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    Endpoint nextEndpoint() {
+        var point = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        throw new IllegalStateException("Weights are not cumulative");
+    }
+
+    HttpRequest request(Endpoint endpoint) {
+        return switch (endpoint) {
+            case GET_BY_ID -> get("/" + randomCustomerId(), APPLICATION_JSON_VALUE);
+            case CREATE -> {
+                var number = sequence.incrementAndGet();
+                yield send("POST", "", Map.of(
+                        "fullName", "Load Test " + number,
+                        "email", "loadtest-created" + number + "@example.com",
+                        "phone", phone(number)));
+            }
+            case UPDATE -> send("PUT", "/" + randomCustomerId(), Map.of(
+                    "fullName", "Load Test Updated " + sequence.incrementAndGet(),
+                    "phone", phone(sequence.incrementAndGet())));
+            case DEACTIVATE -> HttpRequest.newBuilder(uri("/" + randomCustomerId())).DELETE().build();
+            case LIST -> get("?limit=" + PAGE_SIZE + "&after=" + CursorCodec.encode(randomCustomerId()),
+                    APPLICATION_JSON_VALUE);
+            case EXPORT -> get("/export", APPLICATION_NDJSON_VALUE);
+        };
+    }
+
+    private HttpRequest get(String path, String accept) {
+        return HttpRequest.newBuilder(uri(path)).header(ACCEPT, accept).GET().build();
+    }
+
+    private HttpRequest send(String method, String path, Map<String, String> body) {
+        try {
+            return HttpRequest.newBuilder(uri(path))
+                    .header(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private long randomCustomerId() {
+        return customerIds[ThreadLocalRandom.current().nextInt(customerIds.length)];
+    }
+
+    private static String phone(long number) {
+        return "+381" + String.format("%09d", number % 1_000_000_000L);
+    }
+}
@@ -0,0 +1,207 @@
+package tech.theraven.customers_api.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import tech.theraven.customers_api.exceptions.custom.EntityAlreadyExistsException;
+import tech.theraven.customers_api.exceptions.custom.ServiceUnavailableException;
+import tech.theraven.customers_api.model.Customer;
+import tech.theraven.customers_api.model.dto.BatchItemResult;
+import tech.theraven.customers_api.service.CustomerService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static tech.theraven.customers_api.constants.MetricsConstants.CREATE_BATCH_FALLBACKS_METRIC;
+import static tech.theraven.customers_api.constants.MetricsConstants.CREATE_BATCH_SIZE_METRIC;
+
+/**
+ * Collects concurrent customer creations and writes them together, with one multi-row insert and one commit.
+ * <p>
+ * A background worker takes the first waiting creation, waits up to the maximum delay for more to arrive,
+ * or until the batch is full, and writes the batch with {@link CustomerService#createAll(List)}. While a batch
+ * is being written the next one accumulates, so the batches grow with the load. Every caller gets its own
+ * outcome: the created customer, or an {@link EntityAlreadyExistsException} if its email is taken.
+ * If the batch still fails on an email taken by a concurrent write after the retry of {@code createAll},
+ * its customers are created one by one, so only the conflicting ones fail.
+ * <p>
+ * A caller waits at most the timeout for its batch. Should the worker stop on an unexpected error,
+ * every waiting creation fails and the batcher rejects new ones.
+ */
+@Slf4j
+public class CustomerCreateBatcher implements AutoCloseable {
+
+    private final CustomerService customerService;
+    private final int maxBatchSize;
+    private final Duration maxDelay;
+    private final Duration timeout;
+    private final BlockingQueue<PendingCreate> queue = new LinkedBlockingQueue<>();
+    private final DistributionSummary batchSizes;
+    private final Counter fallbacks;
+    private final Thread worker;
+    private volatile boolean closed;
+
+    public CustomerCreateBatcher(CustomerService customerService,
+                                 int maxBatchSize,
+                                 Duration maxDelay,
+                                 Duration timeout,
+                                 MeterRegistry meterRegistry) {
+        this.customerService = customerService;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+        this.timeout = timeout;
+        this.batchSizes = DistributionSummary.builder(CREATE_BATCH_SIZE_METRIC)
+                .description("Customers created per batch")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder(CREATE_BATCH_FALLBACKS_METRIC)
+                .description("Batches created one by one after an email conflict with a concurrent write")
+                .register(meterRegistry);
+        this.worker = Thread.ofPlatform()
+                .name("customer-create-batcher")
+                .daemon()
+                .start(this::run);
+    }
+
+    /**
+     * Creates a customer as part of the next batch and waits until the batch is written.
+     *
+     * @param customer the customer to create
+     * @return the created customer
+     * @throws EntityAlreadyExistsException if a customer with the same email already exists
+     * @throws ServiceUnavailableException   if the batch is not written within the timeout
+     */
+    public Customer create(Customer customer) throws EntityAlreadyExistsException, ServiceUnavailableException {
+        if (closed) {
+            throw new IllegalStateException("Customer create batcher is closed");
+        }
+        var pending = new PendingCreate(customer, new CompletableFuture<>());
+        queue.add(pending);
+        // The worker may have stopped and drained the queue after the check above
+        if (closed && queue.remove(pending)) {
+            throw new IllegalStateException("Customer create batcher is closed");
+        }
+        try {
+            return pending.result().get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new CompletionException(ex.getCause());
+        } catch (TimeoutException ex) {
+            // Once the worker has taken the creation it may still be written, so only a queued one is withdrawn
+            var withdrawn = queue.remove(pending);
+            throw new ServiceUnavailableException(withdrawn
+                    ? "Customer was not created within " + timeout
+                    : "Customer creation did not complete within " + timeout + ", its outcome is unknown");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            queue.remove(pending);
+            throw new IllegalStateException("Interrupted while waiting for the customer to be created", ex);
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+        worker.interrupt();
+        worker.join();
+    }
+
+    private void run() {
+        var batch = new ArrayList<PendingCreate>(maxBatchSize);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    batch.add(queue.take());
+                    collect(batch);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                if (!batch.isEmpty()) {
+                    write(batch);
+                    batch.clear();
+                }
+            }
+        } catch (Throwable ex) {
+            log.error("Customer create batcher stopped: {}", ex.getMessage(), ex);
+            batch.forEach(pending -> pending.result().completeExceptionally(ex));
+        } finally {
+            // Fail the creations still waiting, whether the batcher was closed or the worker died
+            closed = true;
+            batch.clear();
+            queue.drainTo(batch);
+            batch.forEach(pending -> pending.result()
+                    .completeExceptionally(new IllegalStateException("Customer create batcher is closed")));
+        }
+    }
+
+    /**
+     * Adds waiting creations to the batch until it is full or the maximum delay has passed.
+     */
+    private void collect(List<PendingCreate> batch) throws InterruptedException {
+        var deadline = System.nanoTime() + maxDelay.toNanos();
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            var remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+            var next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<PendingCreate> batch) {
+        try {
+            batchSizes.record(batch.size());
+            var results = customerService.createAll(batch.stream().map(PendingCreate::customer).toList());
+            results.forEach(result -> complete(batch.get(result.index()), result));
+        } catch (DataIntegrityViolationException ex) {
+            fallbacks.increment();
+            batch.forEach(this::createIndividually);
+        } catch (RuntimeException ex) {
+            log.error("Failed to create a batch of {} customers: {}", batch.size(), ex.getMessage());
+            batch.forEach(pending -> pending.result().completeExceptionally(ex));
+        }
+    }
+
+    private static void complete(PendingCreate pending, BatchItemResult<Customer> result) {
+        if (result.status() == BatchItemResult.Status.SUCCEEDED) {
+            pending.result().complete(result.result());
+        } else {
+            pending.result().completeExceptionally(new EntityAlreadyExistsException(
+                    Customer.class.getSimpleName(), "Email: " + pending.customer().getEmail()));
+        }
+    }
+
+    private void createIndividually(PendingCreate pending) {
+        var customer = pending.customer();
+        // The ID and version assigned by the rolled back batch were never stored
+        customer.setId(null);
+        customer.setVersion(null);
+        try {
+            pending.result().complete(customerService.create(customer));
+        } catch (RuntimeException ex) {
+            pending.result().completeExceptionally(ex);
+        }
+    }
+
+    private record PendingCreate(Customer customer, CompletableFuture<Customer> result) {
+    }
+}
@@ -0,0 +1,11 @@
+package tech.theraven.customers_api.cache;
+
+/**
+ * Message telling other nodes to drop an entry from their first-level cache.
+ *
+ * @param origin    the ID of the node that changed the entry
+ * @param cacheName the name of the cache
+ * @param key       the key of the changed entry, or {@code null} if the whole cache was cleared
+ */
+public record CacheInvalidation(String origin, String cacheName, String key) {
+}
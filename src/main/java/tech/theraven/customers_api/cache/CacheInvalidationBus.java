@@ -0,0 +1,23 @@
+package tech.theraven.customers_api.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Delivers cache invalidation messages between application nodes.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Sends an invalidation message to every subscribed node, including the sender.
+     *
+     * @param invalidation the message to send
+     */
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * Registers a listener for invalidation messages.
+     *
+     * @param listener the listener to call for each received message
+     */
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,75 @@
+package tech.theraven.customers_api.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link SharedCacheStore} kept in the memory of the current JVM.
+ * Intended for tests and single-node runs where no shared store is available.
+ */
+public class InMemorySharedCacheStore implements SharedCacheStore {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<String> get(String key) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAt().isBefore(Instant.now())) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.value());
+    }
+
+    @Override
+    public long generation(String key) {
+        return generations.getOrDefault(key, 0L);
+    }
+
+    @Override
+    public void put(String key, String value, Duration timeToLive) {
+        generations.merge(key, 1L, Long::sum);
+        entries.put(key, new Entry(value, Instant.now().plus(timeToLive)));
+    }
+
+    @Override
+    public boolean putIfAbsent(String key, String value, Duration timeToLive) {
+        var now = Instant.now();
+        var entry = new Entry(value, now.plus(timeToLive));
+        var existing = entries.putIfAbsent(key, entry);
+        return existing == null || existing.expiresAt().isBefore(now) && entries.replace(key, existing, entry);
+    }
+
+    @Override
+    public boolean putIfUnchanged(String key, String value, Duration timeToLive, long generation) {
+        var now = Instant.now();
+        var entry = new Entry(value, now.plus(timeToLive));
+        // A write advances the generation before it changes the entry, and waits for this computation to change it
+        var stored = entries.compute(key, (k, existing) ->
+                (existing == null || existing.expiresAt().isBefore(now)) && generation(key) == generation
+                        ? entry
+                        : existing);
+        return stored == entry;
+    }
+
+    @Override
+    public void evict(String key) {
+        generations.merge(key, 1L, Long::sum);
+        entries.remove(key);
+    }
+
+    @Override
+    public void clear(String keyPrefix) {
+        entries.keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+
+    private record Entry(String value, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,101 @@
+package tech.theraven.customers_api.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link SharedCacheStore} backed by Redis, shared by all application nodes.
+ * The generation of a key is a counter stored next to it. A write advances the counter before it changes the value,
+ * and a conditional fill compares the counter and stores the value in one script, so no write can slip in between.
+ */
+@RequiredArgsConstructor
+public class RedisSharedCacheStore implements SharedCacheStore {
+
+    private static final int SCAN_BATCH_SIZE = 500;
+    private static final String GENERATION_SUFFIX = "::generation";
+    // Long enough to outlive any load started before the write
+    private static final Duration GENERATION_TIME_TO_LIVE = Duration.ofDays(1);
+    private static final RedisScript<Long> PUT_IF_UNCHANGED = RedisScript.of("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[2] then
+                return 0
+            end
+            if redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3], 'NX') then
+                return 1
+            end
+            return 0""", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(key));
+    }
+
+    @Override
+    public long generation(String key) {
+        var generation = redisTemplate.opsForValue().get(generationKey(key));
+        return generation != null ? Long.parseLong(generation) : 0;
+    }
+
+    @Override
+    public void put(String key, String value, Duration timeToLive) {
+        advanceGeneration(key);
+        redisTemplate.opsForValue().set(key, value, timeToLive);
+    }
+
+    @Override
+    public boolean putIfAbsent(String key, String value, Duration timeToLive) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, timeToLive));
+    }
+
+    @Override
+    public boolean putIfUnchanged(String key, String value, Duration timeToLive, long generation) {
+        var stored = redisTemplate.execute(PUT_IF_UNCHANGED, List.of(key, generationKey(key)),
+                value, String.valueOf(generation), String.valueOf(timeToLive.toMillis()));
+        return stored != null && stored == 1;
+    }
+
+    @Override
+    public void evict(String key) {
+        advanceGeneration(key);
+        redisTemplate.delete(key);
+    }
+
+    @Override
+    public void clear(String keyPrefix) {
+        var scanOptions = ScanOptions.scanOptions()
+                .match(keyPrefix + "*")
+                .count(SCAN_BATCH_SIZE)
+                .build();
+        var keys = new ArrayList<String>(SCAN_BATCH_SIZE);
+        try (var cursor = redisTemplate.scan(scanOptions)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == SCAN_BATCH_SIZE) {
+                    redisTemplate.delete(keys);
+                    keys.clear();
+                }
+            }
+        }
+        if (!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    private void advanceGeneration(String key) {
+        var generationKey = generationKey(key);
+        redisTemplate.opsForValue().increment(generationKey);
+        redisTemplate.expire(generationKey, GENERATION_TIME_TO_LIVE);
+    }
+
+    private static String generationKey(String key) {
+        return key + GENERATION_SUFFIX;
+    }
+}
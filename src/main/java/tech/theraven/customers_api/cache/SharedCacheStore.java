@@ -0,0 +1,74 @@
+package tech.theraven.customers_api.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Second-level cache storage shared by all application nodes.
+ * Values are stored in their serialized form.
+ * Every key has a generation that {@link #put} and {@link #evict} advance before changing the value,
+ * so that a value loaded before a write can be rejected with {@link #putIfUnchanged}.
+ */
+public interface SharedCacheStore {
+
+    /**
+     * Retrieves a value by its key.
+     *
+     * @param key the key of the value
+     * @return the serialized value, or an empty Optional if it is not present
+     */
+    Optional<String> get(String key);
+
+    /**
+     * Retrieves the current generation of a key.
+     *
+     * @param key the key of the value
+     * @return the generation, 0 if the key was never written
+     */
+    long generation(String key);
+
+    /**
+     * Stores a value under the given key, replacing the current one and advancing the generation.
+     *
+     * @param key        the key of the value
+     * @param value      the serialized value
+     * @param timeToLive how long the value is kept
+     */
+    void put(String key, String value, Duration timeToLive);
+
+    /**
+     * Stores a value under the given key unless the key already holds a value.
+     *
+     * @param key        the key of the value
+     * @param value      the serialized value
+     * @param timeToLive how long the value is kept
+     * @return true if the value was stored, false if the key already held a value
+     */
+    boolean putIfAbsent(String key, String value, Duration timeToLive);
+
+    /**
+     * Stores a value under the given key unless the key already holds a value
+     * or was written since the given generation was read.
+     *
+     * @param key        the key of the value
+     * @param value      the serialized value
+     * @param timeToLive how long the value is kept
+     * @param generation the generation read before the value was loaded
+     * @return true if the value was stored
+     */
+    boolean putIfUnchanged(String key, String value, Duration timeToLive, long generation);
+
+    /**
+     * Removes a value by its key and advances the generation.
+     *
+     * @param key the key of the value
+     */
+    void evict(String key);
+
+    /**
+     * Removes all values whose key starts with the given prefix.
+     *
+     * @param keyPrefix the prefix of the keys to remove
+     */
+    void clear(String keyPrefix);
+}
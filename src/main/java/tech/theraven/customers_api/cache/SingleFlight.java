@@ -0,0 +1,89 @@
+package tech.theraven.customers_api.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static tech.theraven.customers_api.constants.MetricsConstants.*;
+
+/**
+ * Coalesces concurrent loads of the same key into one.
+ * The first caller for a key runs the loader, callers arriving while it runs wait for its outcome
+ * and receive the same value or exception instead of loading again. Nothing is kept once the load
+ * completes, so a later call loads afresh.
+ * <p>
+ * In-flight loads are tracked in a {@link ConcurrentHashMap}, whose per-bin locking is the only
+ * synchronization: calls for different keys do not contend with each other.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the loaded values
+ */
+public class SingleFlight<K, V> {
+
+    private static final String EXECUTED = "executed";
+    private static final String DEDUPLICATED = "deduplicated";
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executedCalls;
+    private final Counter deduplicatedCalls;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executedCalls = counter(name, EXECUTED, meterRegistry);
+        this.deduplicatedCalls = counter(name, DEDUPLICATED, meterRegistry);
+    }
+
+    /**
+     * Loads the value of the key, sharing the load with concurrent calls for the same key.
+     *
+     * @param key    the key to load
+     * @param loader the load to run if no load of the key is in flight
+     * @return the loaded value
+     * @throws RuntimeException the exception thrown by the loader, to every caller sharing the load
+     */
+    public V execute(K key, Supplier<V> loader) {
+        var call = new CompletableFuture<V>();
+        var inFlightCall = inFlight.putIfAbsent(key, call);
+        if (inFlightCall != null) {
+            deduplicatedCalls.increment();
+            return await(inFlightCall);
+        }
+
+        executedCalls.increment();
+        try {
+            var value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static Counter counter(String name, String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder(SINGLE_FLIGHT_METRIC)
+                .description("Loads requested through a single flight, by whether they ran or joined one in flight")
+                .tag(NAME_TAG, name)
+                .tag(OUTCOME_TAG, outcome)
+                .register(meterRegistry);
+    }
+}
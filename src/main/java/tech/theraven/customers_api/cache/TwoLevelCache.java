@@ -0,0 +1,180 @@
+package tech.theraven.customers_api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache combining an in-process first level with a second level shared by all nodes.
+ * Reads are served from the first level and fall back to the second one.
+ * Writes go to both levels and are announced on the {@link CacheInvalidationBus},
+ * so other nodes drop their first-level copy and reload it from the second level.
+ * Values loaded after a miss with {@link #get(Object, Callable)} are filled in instead:
+ * a fill never replaces an entry, which may have been written by a newer update in the meantime,
+ * and is not announced, as no other node can hold a copy of an absent entry.
+ * <p>
+ * A value loaded before a concurrent write committed must not be filled in after the write evicted the entry.
+ * The second level rejects the fill if the key was written since the load started, see
+ * {@link SharedCacheStore#putIfUnchanged}. The first level is filled inside a Caffeine computation of the key,
+ * which an eviction waits for before it removes the entry, so an eviction never comes before a fill it should remove.
+ * Both levels are keyed by the string form of the cache key, which is also what
+ * travels on the bus.
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private static final String KEY_SEPARATOR = "::";
+
+    @Getter
+    private final CaffeineCache localCache;
+    private final SharedCacheStore sharedStore;
+    private final CacheInvalidationBus invalidationBus;
+    private final ObjectMapper objectMapper;
+    private final Class<?> valueType;
+    private final Duration sharedTimeToLive;
+    private final String nodeId;
+
+    public TwoLevelCache(CaffeineCache localCache,
+                         SharedCacheStore sharedStore,
+                         CacheInvalidationBus invalidationBus,
+                         ObjectMapper objectMapper,
+                         Class<?> valueType,
+                         Duration sharedTimeToLive,
+                         String nodeId) {
+        super(false);
+        this.localCache = localCache;
+        this.sharedStore = sharedStore;
+        this.invalidationBus = invalidationBus;
+        this.objectMapper = objectMapper;
+        this.valueType = valueType;
+        this.sharedTimeToLive = sharedTimeToLive;
+        this.nodeId = nodeId;
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public String getName() {
+        return localCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache.getNativeCache();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        // Copied inside the computation, so that an invalidation received meanwhile removes the copy
+        return localCache.getNativeCache().get(key.toString(), localKey -> sharedStore.get(sharedKey(key))
+                .map(this::deserialize)
+                .orElse(null));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        var rejectedValue = new Object[1];
+        var value = localCache.getNativeCache().get(key.toString(), localKey -> {
+            var sharedKey = sharedKey(key);
+            var generation = sharedStore.generation(sharedKey);
+            var sharedValue = sharedStore.get(sharedKey).map(this::deserialize);
+            if (sharedValue.isPresent()) {
+                return sharedValue.get();
+            }
+
+            Object loadedValue;
+            try {
+                loadedValue = valueLoader.call();
+            } catch (Exception ex) {
+                throw new ValueRetrievalException(key, valueLoader, ex);
+            }
+            if (loadedValue != null
+                    && sharedStore.putIfUnchanged(sharedKey, serialize(loadedValue), sharedTimeToLive, generation)) {
+                return loadedValue;
+            }
+            // The entry was written since the load started, so the loaded value is returned but not cached
+            rejectedValue[0] = loadedValue;
+            return null;
+        });
+        return (T) (value != null ? value : rejectedValue[0]);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        localCache.put(key.toString(), value);
+        sharedStore.put(sharedKey(key), serialize(value), sharedTimeToLive);
+        invalidationBus.publish(new CacheInvalidation(nodeId, getName(), key.toString()));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (sharedStore.putIfAbsent(sharedKey(key), serialize(value), sharedTimeToLive)) {
+            localCache.putIfAbsent(key.toString(), value);
+            return null;
+        }
+        // Another node wrote the entry since the miss, so its value is kept
+        var existingValue = lookup(key);
+        return existingValue != null ? toValueWrapper(existingValue) : null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        localCache.evict(key.toString());
+        sharedStore.evict(sharedKey(key));
+        invalidationBus.publish(new CacheInvalidation(nodeId, getName(), key.toString()));
+    }
+
+    @Override
+    public void clear() {
+        localCache.clear();
+        sharedStore.clear(getName() + KEY_SEPARATOR);
+        invalidationBus.publish(new CacheInvalidation(nodeId, getName(), null));
+    }
+
+    /**
+     * Drops the first-level copy of an entry changed by another node.
+     *
+     * @param invalidation the received invalidation message
+     */
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.origin()) || !getName().equals(invalidation.cacheName())) {
+            return;
+        }
+        if (invalidation.key() == null) {
+            localCache.clear();
+        } else {
+            localCache.evict(invalidation.key());
+        }
+    }
+
+    private String sharedKey(Object key) {
+        return getName() + KEY_SEPARATOR + key;
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize value of cache " + getName(), ex);
+        }
+    }
+
+    private Object deserialize(String value) {
+        try {
+            return objectMapper.readValue(value, valueType);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to deserialize value of cache " + getName(), ex);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package tech.theraven.customers_api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tech.theraven.customers_api.cache.CacheInvalidationBus;
+import tech.theraven.customers_api.cache.SharedCacheStore;
+import tech.theraven.customers_api.cache.SingleFlight;
+import tech.theraven.customers_api.cache.TwoLevelCache;
+import tech.theraven.customers_api.cache.TwoLevelCacheMeterBinderProvider;
+import tech.theraven.customers_api.model.Customer;
+
+import java.util.List;
+import java.util.UUID;
+
+import static tech.theraven.customers_api.constants.CacheConstants.CUSTOMERS_CACHE;
+import static tech.theraven.customers_api.constants.CacheConstants.CUSTOMER_LOOKUPS;
+
+/**
+ * Configures the customers cache.
+ * The in-process cache is always used. When a {@link SharedCacheStore} is configured
+ * it becomes the first level of a {@link TwoLevelCache} shared by all nodes.
+ * Writes to the cache are deferred until the surrounding transaction commits,
+ * so a rolled back update never reaches the cache. Concurrent misses for the same customer
+ * share a single database lookup.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CustomerCacheProperties.class)
+public class CacheConfig {
+
+    private static final String NODE_ID = UUID.randomUUID().toString();
+
+    @Bean
+    public CacheManager cacheManager(CustomerCacheProperties properties,
+                                     ObjectProvider<SharedCacheStore> sharedCacheStore,
+                                     ObjectProvider<CacheInvalidationBus> cacheInvalidationBus,
+                                     ObjectMapper objectMapper) {
+        var localCache = new CaffeineCache(CUSTOMERS_CACHE, Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.timeToLive())
+                .recordStats()
+                .build(), false);
+
+        var sharedStore = sharedCacheStore.getIfAvailable();
+        Cache customersCache = sharedStore == null
+                ? localCache
+                : new TwoLevelCache(localCache, sharedStore, cacheInvalidationBus.getObject(), objectMapper,
+                Customer.class, properties.shared().timeToLive(), NODE_ID);
+
+        var cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(customersCache));
+        cacheManager.initializeCaches();
+
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    @Bean
+    public SingleFlight<Long, Customer> customerLookups(MeterRegistry meterRegistry) {
+        return new SingleFlight<>(CUSTOMER_LOOKUPS, meterRegistry);
+    }
+
+    @Bean
+    public TwoLevelCacheMeterBinderProvider twoLevelCacheMeterBinderProvider() {
+        return new TwoLevelCacheMeterBinderProvider();
+    }
+}
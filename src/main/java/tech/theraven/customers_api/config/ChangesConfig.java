@@ -0,0 +1,9 @@
+package tech.theraven.customers_api.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CustomerChangesProperties.class)
+public class ChangesConfig {
+}
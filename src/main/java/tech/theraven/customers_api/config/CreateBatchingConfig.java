@@ -0,0 +1,26 @@
+package tech.theraven.customers_api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tech.theraven.customers_api.batch.CustomerCreateBatcher;
+import tech.theraven.customers_api.service.CustomerService;
+
+/**
+ * Configures the batching of concurrent customer creations, enabled with {@code customers.create-batching.enabled}.
+ */
+@Configuration
+@EnableConfigurationProperties(CustomerCreateBatchingProperties.class)
+@ConditionalOnProperty(prefix = "customers.create-batching", name = "enabled", havingValue = "true")
+public class CreateBatchingConfig {
+
+    @Bean
+    public CustomerCreateBatcher customerCreateBatcher(CustomerService customerService,
+                                                       CustomerCreateBatchingProperties properties,
+                                                       MeterRegistry meterRegistry) {
+        return new CustomerCreateBatcher(customerService, properties.maxBatchSize(), properties.maxDelay(),
+                properties.timeout(), meterRegistry);
+    }
+}
@@ -0,0 +1,39 @@
+package tech.theraven.customers_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of the customers cache.
+ *
+ * @param maximumSize the maximum number of customers kept in the in-process cache
+ * @param timeToLive  how long a customer stays in the in-process cache after it was written
+ * @param shared      the second-level cache shared by all nodes
+ */
+@ConfigurationProperties(prefix = "customers.cache")
+public record CustomerCacheProperties(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("10m") Duration timeToLive,
+        @DefaultValue Shared shared) {
+
+    /**
+     * Configuration properties of the second-level cache.
+     *
+     * @param type                the kind of shared store: {@code none}, {@code in-memory} or {@code redis}
+     * @param timeToLive          how long a customer stays in the shared store after it was written
+     * @param invalidationChannel the channel used to announce changed entries to other nodes
+     */
+    public record Shared(
+            @DefaultValue("none") SharedCacheType type,
+            @DefaultValue("1h") Duration timeToLive,
+            @DefaultValue("customers-cache-invalidation") String invalidationChannel) {
+    }
+
+    public enum SharedCacheType {
+        NONE,
+        IN_MEMORY,
+        REDIS
+    }
+}
@@ -0,0 +1,18 @@
+package tech.theraven.customers_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of the customer changes feed.
+ *
+ * @param safetyLag how old a change must be before the feed returns it. Update timestamps are taken
+ *                  before the writing transaction commits, so a change becomes visible slightly after
+ *                  its timestamp; holding back the most recent changes keeps a reader from moving
+ *                  its cursor past a change that is still being committed
+ */
+@ConfigurationProperties(prefix = "customers.changes")
+public record CustomerChangesProperties(@DefaultValue("5s") Duration safetyLag) {
+}
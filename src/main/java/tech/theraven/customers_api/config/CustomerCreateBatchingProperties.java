@@ -0,0 +1,22 @@
+package tech.theraven.customers_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of the batching of concurrent customer creations.
+ *
+ * @param enabled      whether concurrent creations are collected and written together
+ * @param maxBatchSize the maximum number of creations written in one transaction
+ * @param maxDelay     how long the first creation of a batch waits for others to join it
+ * @param timeout      how long a creation waits for its batch to be written, below the clients' request timeout
+ */
+@ConfigurationProperties(prefix = "customers.create-batching")
+public record CustomerCreateBatchingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100") int maxBatchSize,
+        @DefaultValue("5ms") Duration maxDelay,
+        @DefaultValue("10s") Duration timeout) {
+}
@@ -0,0 +1,35 @@
+package tech.theraven.customers_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of the {@code Idempotency-Key} support of the customer mutations.
+ *
+ * @param enabled         whether requests carrying an idempotency key are deduplicated
+ * @param store           the kind of response store: {@code in-memory} or {@code redis}
+ * @param maximumSize     the maximum number of responses kept by the in-memory store
+ * @param timeToLive      how long a response is replayed after it was recorded
+ * @param keyPrefix       the prefix of the keys of the Redis store
+ * @param claimTimeToLive how long a key stays claimed by a request that neither recorded nor released it,
+ *                        e.g. because its node died
+ * @param waitTimeout     how long a request waits for the response of a running request with the same key
+ *                        before it is answered with 409 Conflict
+ */
+@ConfigurationProperties(prefix = "customers.idempotency")
+public record CustomerIdempotencyProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("in-memory") IdempotencyStoreType store,
+        @DefaultValue("100000") long maximumSize,
+        @DefaultValue("24h") Duration timeToLive,
+        @DefaultValue("customers-idempotency:") String keyPrefix,
+        @DefaultValue("1m") Duration claimTimeToLive,
+        @DefaultValue("10s") Duration waitTimeout) {
+
+    public enum IdempotencyStoreType {
+        IN_MEMORY,
+        REDIS
+    }
+}
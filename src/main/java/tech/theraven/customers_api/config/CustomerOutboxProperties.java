@@ -0,0 +1,48 @@
+package tech.theraven.customers_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of the customer events outbox.
+ *
+ * @param relay the relay moving events from the outbox to the sink
+ * @param sink  the destination of the events
+ */
+@ConfigurationProperties(prefix = "customers.outbox")
+public record CustomerOutboxProperties(
+        @DefaultValue Relay relay,
+        @DefaultValue Sink sink) {
+
+    /**
+     * Configuration properties of the outbox relay.
+     *
+     * @param enabled   whether this node relays events; events are still written to the outbox when disabled
+     * @param interval  the pause between two relay runs
+     * @param batchSize the maximum number of events published and deleted in one transaction
+     */
+    public record Relay(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("1s") Duration interval,
+            @DefaultValue("500") int batchSize) {
+    }
+
+    /**
+     * Configuration properties of the outbox sink.
+     *
+     * @param type   the kind of sink: {@code log}, {@code in-memory} or {@code redis}
+     * @param stream the Redis stream the events are appended to
+     */
+    public record Sink(
+            @DefaultValue("log") OutboxSinkType type,
+            @DefaultValue("customers-events") String stream) {
+    }
+
+    public enum OutboxSinkType {
+        LOG,
+        IN_MEMORY,
+        REDIS
+    }
+}
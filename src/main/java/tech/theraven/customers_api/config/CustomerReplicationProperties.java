@@ -0,0 +1,38 @@
+package tech.theraven.customers_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration properties of the routing of read-only transactions to replicas.
+ *
+ * @param enabled              whether read-only transactions may be routed to the replicas
+ * @param replicas             the replicas of the primary database configured by {@code spring.datasource}
+ * @param maxLag               the replication lag above which a replica is not used
+ * @param lagCheckInterval     the pause between two measurements of the replication lag
+ * @param readYourWritesWindow how long the reads of a client stay on the primary after it changed data,
+ *                             so it reads its own writes; should exceed {@code maxLag}
+ * @param poolSize             the maximum number of connections to each replica
+ */
+@ConfigurationProperties(prefix = "customers.replication")
+public record CustomerReplicationProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<Replica> replicas,
+        @DefaultValue("2s") Duration maxLag,
+        @DefaultValue("2s") Duration lagCheckInterval,
+        @DefaultValue("10s") Duration readYourWritesWindow,
+        @DefaultValue("20") int poolSize) {
+
+    /**
+     * Connection settings of a replica. Unset credentials default to the ones of the primary.
+     *
+     * @param url      the JDBC URL of the replica
+     * @param username the user to connect as
+     * @param password the password of the user
+     */
+    public record Replica(String url, String username, String password) {
+    }
+}
@@ -0,0 +1,53 @@
+package tech.theraven.customers_api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import tech.theraven.customers_api.idempotency.IdempotencyFilter;
+import tech.theraven.customers_api.idempotency.IdempotencyStore;
+import tech.theraven.customers_api.idempotency.InMemoryIdempotencyStore;
+import tech.theraven.customers_api.idempotency.RedisIdempotencyStore;
+
+/**
+ * Configures the {@code Idempotency-Key} support of the customer mutations
+ * and the response store selected by {@code customers.idempotency.store}.
+ */
+@Configuration
+@Profile("!reactive")
+@EnableConfigurationProperties(CustomerIdempotencyProperties.class)
+@ConditionalOnProperty(prefix = "customers.idempotency", name = "enabled", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "customers.idempotency", name = "store", havingValue = "in-memory", matchIfMissing = true)
+    public IdempotencyStore inMemoryIdempotencyStore(CustomerIdempotencyProperties properties) {
+        return new InMemoryIdempotencyStore(properties.maximumSize(), properties.timeToLive(),
+                properties.claimTimeToLive());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "customers.idempotency", name = "store", havingValue = "redis")
+    public IdempotencyStore redisIdempotencyStore(StringRedisTemplate redisTemplate,
+                                                  ObjectMapper objectMapper,
+                                                  CustomerIdempotencyProperties properties) {
+        return new RedisIdempotencyStore(redisTemplate, objectMapper, properties.keyPrefix(), properties.timeToLive(),
+                properties.claimTimeToLive());
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore idempotencyStore,
+                                                                       ObjectMapper objectMapper,
+                                                                       MeterRegistry meterRegistry,
+                                                                       CustomerIdempotencyProperties properties) {
+        var registration = new FilterRegistrationBean<>(
+                new IdempotencyFilter(idempotencyStore, objectMapper, properties.waitTimeout(), meterRegistry));
+        registration.addUrlPatterns("/api/customers", "/api/customers/*");
+        return registration;
+    }
+}
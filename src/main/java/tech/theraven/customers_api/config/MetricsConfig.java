@@ -0,0 +1,35 @@
+package tech.theraven.customers_api.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tech.theraven.customers_api.metrics.QueryCountFilter;
+import tech.theraven.customers_api.metrics.QueryCounter;
+
+/**
+ * Configures the application metrics on top of the ones provided by Spring Boot.
+ * Service methods annotated with {@link io.micrometer.core.annotation.Timed} are timed,
+ * and the SQL statements executed by every HTTP request are counted.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(MeterRegistry meterRegistry) {
+        return new FilterRegistrationBean<>(new QueryCountFilter(meterRegistry));
+    }
+}
@@ -0,0 +1,57 @@
+package tech.theraven.customers_api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.theraven.customers_api.outbox.*;
+import tech.theraven.customers_api.repository.CustomerEventRepository;
+
+/**
+ * Configures the relay of the customer events outbox and the sink selected by {@code customers.outbox.sink.type}.
+ */
+@Configuration
+@EnableConfigurationProperties(CustomerOutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "customers.outbox.sink", name = "type", havingValue = "log", matchIfMissing = true)
+    public OutboxSink logOutboxSink() {
+        return new LogOutboxSink();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "customers.outbox.sink", name = "type", havingValue = "in-memory")
+    public OutboxSink inMemoryOutboxSink() {
+        return new InMemoryOutboxSink();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "customers.outbox.sink", name = "type", havingValue = "redis")
+    public OutboxSink redisStreamOutboxSink(StringRedisTemplate redisTemplate, CustomerOutboxProperties properties) {
+        return new RedisStreamOutboxSink(redisTemplate, properties.sink().stream());
+    }
+
+    /**
+     * Schedules the relay, unless this node is configured not to relay.
+     */
+    @Configuration
+    @EnableScheduling
+    @ConditionalOnProperty(prefix = "customers.outbox.relay", name = "enabled", matchIfMissing = true)
+    static class OutboxRelayConfig {
+
+        @Bean
+        public OutboxRelay outboxRelay(CustomerEventRepository eventRepository,
+                                       OutboxSink outboxSink,
+                                       TransactionTemplate transactionTemplate,
+                                       MeterRegistry meterRegistry,
+                                       CustomerOutboxProperties properties) {
+            return new OutboxRelay(eventRepository, outboxSink, transactionTemplate, meterRegistry,
+                    properties.relay().batchSize());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package tech.theraven.customers_api.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+/**
+ * Configures the reactive stack, enabled with the {@code reactive} profile.
+ * The API is served by Netty and reads and writes customers over R2DBC. The JDBC data source is still
+ * needed for the Flyway migrations and the JPA beans, but Spring Boot backs off from it as soon as
+ * an R2DBC connection factory exists, so it is declared here with the pool settings bound by
+ * {@link DataSourceConfig}. With both a JPA and an R2DBC transaction manager in the context,
+ * the JPA one stays the default for {@code @Transactional}.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public HikariDataSource dataSource(HikariConfig primaryHikariConfig) {
+        var dataSource = new HikariDataSource();
+        primaryHikariConfig.copyStateTo(dataSource);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
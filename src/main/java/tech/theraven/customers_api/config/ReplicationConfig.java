@@ -0,0 +1,96 @@
+package tech.theraven.customers_api.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import tech.theraven.customers_api.replication.ReadYourWritesFilter;
+import tech.theraven.customers_api.replication.ReplicaDataSources;
+import tech.theraven.customers_api.replication.ReplicaLagMonitor;
+import tech.theraven.customers_api.replication.ReplicaRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+
+/**
+ * Configures read replicas, enabled with {@code customers.replication.enabled}.
+ * The application data source routes read-only transactions to the replicas that are not lagging behind
+ * and everything else to the primary configured by {@code spring.datasource}, which also runs the migrations.
+ * Clients that changed data are kept on the primary for a while, so they read their own writes.
+ */
+@Configuration
+@Profile("!reactive")
+@EnableScheduling
+@EnableConfigurationProperties(CustomerReplicationProperties.class)
+@ConditionalOnProperty(prefix = "customers.replication", name = "enabled", havingValue = "true")
+public class ReplicationConfig {
+
+    private static final String REPLICA_KEY_PREFIX = "replica-";
+
+    @Bean
+    public HikariDataSource primaryDataSource(HikariConfig primaryHikariConfig) {
+        var dataSource = new HikariDataSource();
+        primaryHikariConfig.copyStateTo(dataSource);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaDataSources replicaDataSources(DataSourceProperties primary,
+                                                 CustomerReplicationProperties properties) {
+        var replicas = new LinkedHashMap<String, HikariDataSource>();
+        for (int i = 0; i < properties.replicas().size(); i++) {
+            var replica = properties.replicas().get(i);
+            var key = REPLICA_KEY_PREFIX + i;
+            var dataSource = new HikariDataSource();
+            dataSource.setPoolName(key);
+            dataSource.setJdbcUrl(replica.url());
+            dataSource.setUsername(replica.username() != null ? replica.username() : primary.determineUsername());
+            dataSource.setPassword(replica.password() != null ? replica.password() : primary.determinePassword());
+            dataSource.setMaximumPoolSize(properties.poolSize());
+            dataSource.setReadOnly(true);
+            replicas.put(key, dataSource);
+        }
+        return new ReplicaDataSources(replicas);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaDataSources replicaDataSources,
+                                               CustomerReplicationProperties properties,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSources.asMap(), properties.maxLag(), meterRegistry);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReplicaDataSources replicaDataSources,
+                                                             ReplicaLagMonitor replicaLagMonitor) {
+        var targets = new HashMap<Object, Object>(replicaDataSources.asMap());
+        targets.put(ReplicaRoutingDataSource.PRIMARY, primaryDataSource);
+
+        var routingDataSource = new ReplicaRoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(CustomerReplicationProperties properties) {
+        return new FilterRegistrationBean<>(new ReadYourWritesFilter(properties.readYourWritesWindow()));
+    }
+}
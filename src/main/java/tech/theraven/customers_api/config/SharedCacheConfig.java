@@ -0,0 +1,64 @@
+package tech.theraven.customers_api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import tech.theraven.customers_api.cache.*;
+
+/**
+ * Configures the second-level customers cache selected by {@code customers.cache.shared.type}.
+ */
+@Configuration
+public class SharedCacheConfig {
+
+    /**
+     * Shared store living in the current JVM, for tests and single-node runs.
+     */
+    @Configuration
+    @ConditionalOnProperty(prefix = "customers.cache.shared", name = "type", havingValue = "in-memory")
+    static class InMemorySharedCacheConfig {
+
+        @Bean
+        public SharedCacheStore sharedCacheStore() {
+            return new InMemorySharedCacheStore();
+        }
+
+        @Bean
+        public CacheInvalidationBus cacheInvalidationBus() {
+            return new InMemoryCacheInvalidationBus();
+        }
+    }
+
+    /**
+     * Shared store and invalidation messages backed by Redis, for multi-node deployments.
+     */
+    @Configuration
+    @ConditionalOnProperty(prefix = "customers.cache.shared", name = "type", havingValue = "redis")
+    static class RedisSharedCacheConfig {
+
+        @Bean
+        public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory) {
+            var container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            return container;
+        }
+
+        @Bean
+        public SharedCacheStore sharedCacheStore(StringRedisTemplate redisTemplate) {
+            return new RedisSharedCacheStore(redisTemplate);
+        }
+
+        @Bean
+        public CacheInvalidationBus cacheInvalidationBus(StringRedisTemplate redisTemplate,
+                                                         RedisMessageListenerContainer cacheInvalidationListenerContainer,
+                                                         ObjectMapper objectMapper,
+                                                         CustomerCacheProperties properties) {
+            return new RedisCacheInvalidationBus(redisTemplate, cacheInvalidationListenerContainer, objectMapper,
+                    properties.shared().invalidationChannel());
+        }
+    }
+}
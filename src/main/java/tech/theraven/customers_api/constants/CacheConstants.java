@@ -0,0 +1,10 @@
+package tech.theraven.customers_api.constants;
+
+public class CacheConstants {
+
+    // Cache names
+    public static final String CUSTOMERS_CACHE = "customers";
+
+    // Single flight names
+    public static final String CUSTOMER_LOOKUPS = "customer.lookups";
+}
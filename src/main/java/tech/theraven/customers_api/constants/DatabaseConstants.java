@@ -0,0 +1,13 @@
+package tech.theraven.customers_api.constants;
+
+public class DatabaseConstants {
+
+    // Constraint names
+    public static final String CUSTOMERS_EMAIL_UNIQUE_CONSTRAINT = "customers_email_key";
+
+    // Bulk operations
+    public static final int DEACTIVATION_CHUNK_SIZE = 1000;
+
+    // Advisory locks
+    public static final long OUTBOX_RELAY_LOCK_KEY = 0x6f7574626f78L;
+}
@@ -0,0 +1,24 @@
+package tech.theraven.customers_api.constants;
+
+public class MetricsConstants {
+
+    // Metric names
+    public static final String SERVICE_METRIC = "customers.service";
+    public static final String EXCEPTIONS_METRIC = "customers.exceptions";
+    public static final String REQUEST_QUERIES_METRIC = "customers.http.queries";
+    public static final String OUTBOX_RELAYED_METRIC = "customers.outbox.relayed";
+    public static final String REPLICA_LAG_METRIC = "customers.replica.lag";
+    public static final String SINGLE_FLIGHT_METRIC = "customers.single.flight";
+    public static final String CREATE_BATCH_SIZE_METRIC = "customers.create.batch.size";
+    public static final String CREATE_BATCH_FALLBACKS_METRIC = "customers.create.batch.fallbacks";
+    public static final String IDEMPOTENT_REPLAYS_METRIC = "customers.idempotency.replays";
+
+    // Tag names
+    public static final String EXCEPTION_TAG = "exception";
+    public static final String STATUS_TAG = "status";
+    public static final String METHOD_TAG = "method";
+    public static final String URI_TAG = "uri";
+    public static final String REPLICA_TAG = "replica";
+    public static final String NAME_TAG = "name";
+    public static final String OUTCOME_TAG = "outcome";
+}
@@ -0,0 +1,15 @@
+package tech.theraven.customers_api.constants;
+
+public class PaginationConstants {
+
+    // Page size constraints
+    public static final String DEFAULT_PAGE_SIZE = "50";
+    public static final int MIN_PAGE_SIZE = 1;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    // Search constraints
+    public static final int MAX_SEARCH_RESULTS = 1000;
+
+    // Export constraints
+    public static final String EXPORT_FETCH_SIZE = "1000";
+}
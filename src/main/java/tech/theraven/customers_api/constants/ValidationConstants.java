@@ -13,6 +13,15 @@ public class ValidationConstants {
     // Phone constraints
     public static final String PHONE_REGEX = "^\\+\\d{6,14}$";
 
+    // Search constraints
+    public static final int SEARCH_QUERY_MIN_LENGTH = 3;
+    public static final int SEARCH_QUERY_MAX_LENGTH = 100;
+
+    // Batch constraints
+    public static final int MAX_BATCH_SIZE = 1000;
+    public static final int MAX_DEACTIVATION_BATCH_SIZE = 50_000;
+    public static final int MAX_LOOKUP_SIZE = 500;
+
     // Validation messages
     public static final String FULL_NAME_LENGTH_MESSAGE = "Full name must be between " + FULL_NAME_MIN_LENGTH + " and " + FULL_NAME_MAX_LENGTH + " characters long";
     public static final String EMAIL_LENGTH_MESSAGE = "Email must be between " + EMAIL_MIN_LENGTH + " and " + EMAIL_MAX_LENGTH + " characters long";
@@ -1,63 +1,239 @@
 package tech.theraven.customers_api.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tech.theraven.customers_api.batch.CustomerCreateBatcher;
+import tech.theraven.customers_api.exceptions.custom.InvalidCursorException;
 import tech.theraven.customers_api.mapper.CustomerMapper;
+import tech.theraven.customers_api.model.Customer;
+import tech.theraven.customers_api.model.dto.BatchItemResult;
+import tech.theraven.customers_api.model.dto.CursorPage;
+import tech.theraven.customers_api.model.dto.CustomerChange;
 import tech.theraven.customers_api.model.dto.CustomerInfo;
 import tech.theraven.customers_api.model.dto.CustomerCreateDTO;
+import tech.theraven.customers_api.model.dto.CustomerField;
+import tech.theraven.customers_api.model.dto.CustomerFilter;
+import tech.theraven.customers_api.model.dto.CustomerSort;
 import tech.theraven.customers_api.model.dto.CustomerUpdateDTO;
+import tech.theraven.customers_api.model.dto.DeactivationSummary;
+import tech.theraven.customers_api.model.dto.LookupResult;
 import tech.theraven.customers_api.service.CustomerService;
+import tech.theraven.customers_api.util.CursorCodec;
+import tech.theraven.customers_api.util.CustomerETag;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.MULTI_STATUS;
+import static tech.theraven.customers_api.constants.ValidationConstants.MAX_BATCH_SIZE;
+import static tech.theraven.customers_api.constants.ValidationConstants.MAX_DEACTIVATION_BATCH_SIZE;
+import static tech.theraven.customers_api.constants.ValidationConstants.MAX_LOOKUP_SIZE;
+import static tech.theraven.customers_api.constants.ValidationConstants.SEARCH_QUERY_MAX_LENGTH;
+import static tech.theraven.customers_api.constants.ValidationConstants.SEARCH_QUERY_MIN_LENGTH;
+import static tech.theraven.customers_api.constants.PaginationConstants.*;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/customers")
 @RequiredArgsConstructor
 public class CustomerController {
 
+    private static final String ANY_ETAG = "*";
+    private static final String FIELDS_PARAM = "fields";
+
     private final CustomerService customerService;
     private final CustomerMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<CustomerCreateBatcher> createBatcher;
 
     @PostMapping
     public ResponseEntity<CustomerInfo> createCustomer(@Valid @RequestBody CustomerCreateDTO customerCreateDTO) {
         var customer = mapper.toCustomer(customerCreateDTO);
-        var createdCustomer = customerService.create(customer);
+        var batcher = createBatcher.getIfAvailable();
+        var createdCustomer = batcher != null ? batcher.create(customer) : customerService.create(customer);
         var customerInfo = mapper.toCustomerInfo(createdCustomer);
 
         return ResponseEntity.status(CREATED).body(customerInfo);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchItemResult<CustomerInfo>>> createCustomers(
+            @RequestBody @Size(min = 1, max = MAX_BATCH_SIZE) List<@Valid CustomerCreateDTO> customerCreateDTOs) {
+        var customers = customerCreateDTOs.stream()
+                .map(mapper::toCustomer)
+                .toList();
+        var results = customerService.createAll(customers)
+                .stream()
+                .map(result -> result.map(mapper::toCustomerInfo))
+                .toList();
+        var allSucceeded = results.stream()
+                .allMatch(result -> result.status() == BatchItemResult.Status.SUCCEEDED);
+
+        return ResponseEntity.status(allSucceeded ? CREATED : MULTI_STATUS).body(results);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CustomerInfo> getCustomer(@PathVariable Long id) {
         var customer = customerService.getById(id);
         var customerInfo = mapper.toCustomerInfo(customer);
 
-        return ResponseEntity.ok(customerInfo);
+        return okWithValidators(customer).body(customerInfo);
+    }
+
+    @PostMapping("/lookup")
+    public ResponseEntity<LookupResult<CustomerInfo>> lookupCustomers(
+            @RequestBody @Size(min = 1, max = MAX_LOOKUP_SIZE) List<@NotNull Long> ids) {
+        var result = customerService.getAllById(ids)
+                .map(mapper::toCustomerInfo);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping(value = "/{id}", params = FIELDS_PARAM)
+    public ResponseEntity<Map<String, Object>> getCustomerFields(
+            @PathVariable Long id,
+            @RequestParam(FIELDS_PARAM) List<String> fields) {
+        var selectedFields = CustomerField.parse(fields);
+        var customer = customerService.getById(id);
+
+        return okWithValidators(customer, CustomerETag.of(customer, selectedFields))
+                .body(CustomerField.toMap(customer, selectedFields));
     }
 
     @GetMapping
-    public ResponseEntity<List<CustomerInfo>> getCustomers() {
-        var listOfCustomers = customerService.getAllCustomers()
-                .stream()
+    public ResponseEntity<CursorPage<CustomerInfo>> getCustomers(
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Min(MIN_PAGE_SIZE) @Max(MAX_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String after,
+            CustomerFilter filter,
+            @RequestParam(defaultValue = "ID") CustomerSort.Field sort,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction) {
+        var customerSort = new CustomerSort(sort, direction);
+        var afterKeys = after != null ? CursorCodec.decode(after, customerSort.cursorKeys()) : null;
+        var customers = filter.isEmpty() && CustomerSort.DEFAULT.equals(customerSort)
+                ? customerService.getCustomers(afterKeys != null ? afterKeys[0] : 0L, limit)
+                : customerService.getCustomers(filter, customerSort, afterKeys, limit);
+        var content = customers.stream()
+                .map(mapper::toCustomerInfo)
+                .toList();
+        var nextCursor = customers.size() == limit
+                ? CursorCodec.encode(customerSort.keysOf(customers.getLast()))
+                : null;
+
+        return ResponseEntity.ok(new CursorPage<>(content, nextCursor));
+    }
+
+    @GetMapping(params = FIELDS_PARAM)
+    public ResponseEntity<CursorPage<Map<String, Object>>> getCustomerFields(
+            @RequestParam(FIELDS_PARAM) List<String> fields,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Min(MIN_PAGE_SIZE) @Max(MAX_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String after,
+            CustomerFilter filter,
+            @RequestParam(defaultValue = "ID") CustomerSort.Field sort,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction) {
+        var selectedFields = CustomerField.parse(fields);
+        var customerSort = new CustomerSort(sort, direction);
+        var afterKeys = after != null ? CursorCodec.decode(after, customerSort.cursorKeys()) : null;
+        var rows = customerService.getCustomerFields(selectedFields, filter, customerSort, afterKeys, limit);
+        var content = rows.stream()
+                .map(row -> CustomerField.toMap(row, selectedFields))
+                .toList();
+        var nextCursor = rows.size() == limit
+                ? CursorCodec.encode(customerSort.keysOf(rows.getLast()))
+                : null;
+
+        return ResponseEntity.ok(new CursorPage<>(content, nextCursor));
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<CursorPage<CustomerChange>> getChanges(
+            @RequestParam(required = false) Instant since,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Min(MIN_PAGE_SIZE) @Max(MAX_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String after) {
+        var position = after != null
+                ? CursorCodec.decode(after, CustomerSort.CHANGES.cursorKeys())
+                : new long[]{since != null ? since.getEpochSecond() : 0L, 0L};
+        var customers = customerService.getChanges(position, limit);
+        var content = customers.stream()
+                .map(mapper::toCustomerChange)
+                .toList();
+        var nextPosition = customers.isEmpty()
+                ? position
+                : CustomerSort.CHANGES.keysOf(customers.getLast());
+
+        return ResponseEntity.ok(new CursorPage<>(content, CursorCodec.encode(nextPosition)));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<CursorPage<CustomerInfo>> searchCustomers(
+            @RequestParam @NotBlank @Size(min = SEARCH_QUERY_MIN_LENGTH, max = SEARCH_QUERY_MAX_LENGTH) String q,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Min(MIN_PAGE_SIZE) @Max(MAX_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String after) {
+        var offset = after != null ? CursorCodec.decode(after, 1)[0] : 0L;
+        if (offset < 0 || offset >= MAX_SEARCH_RESULTS) {
+            throw new InvalidCursorException(after);
+        }
+        var customers = customerService.search(q, limit, offset);
+        var content = customers.stream()
                 .map(mapper::toCustomerInfo)
                 .toList();
+        var nextCursor = customers.size() == limit && offset + limit < MAX_SEARCH_RESULTS
+                ? CursorCodec.encode(offset + limit)
+                : null;
 
-        return ResponseEntity.ok(listOfCustomers);
+        return ResponseEntity.ok(new CursorPage<>(content, nextCursor));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportCustomers() {
+        StreamingResponseBody body = outputStream -> {
+            try (var generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                customerService.forEachCustomer(customer -> writeLine(generator, mapper.toCustomerInfo(customer)));
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<CustomerInfo> updateCustomer(
             @Valid @RequestBody CustomerUpdateDTO customerUpdateDTO,
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         var customer = mapper.toCustomer(customerUpdateDTO);
-        var updatedCustomer = customerService.update(id, customer);
+        var updatedCustomer = ifMatch == null || ANY_ETAG.equals(ifMatch.trim())
+                ? customerService.update(id, customer)
+                : customerService.update(id, customer, CustomerETag.parseVersion(id, ifMatch));
         var customerInfo = mapper.toCustomerInfo(updatedCustomer);
 
-        return ResponseEntity.ok(customerInfo);
+        return okWithValidators(updatedCustomer).body(customerInfo);
+    }
+
+    @PostMapping("/batch/deactivate")
+    public ResponseEntity<DeactivationSummary> deactivateCustomers(
+            @RequestBody @Size(min = 1, max = MAX_DEACTIVATION_BATCH_SIZE) List<@NotNull Long> ids) {
+        var summary = customerService.deactivateAll(ids);
+        return ResponseEntity.ok(summary);
     }
 
     @DeleteMapping("/{id}")
@@ -65,4 +241,40 @@ public class CustomerController {
         customerService.deactivate(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Creates a 200 response carrying the ETag and Last-Modified validators of the customer.
+     * For GET requests, Spring compares them with If-None-Match and If-Modified-Since
+     * and answers 304 without a body when the client copy is still current.
+     *
+     * @param customer the customer returned in the response
+     * @return a response builder with the validators set
+     */
+    private static ResponseEntity.BodyBuilder okWithValidators(Customer customer) {
+        return okWithValidators(customer, CustomerETag.of(customer));
+    }
+
+    /**
+     * Creates a 200 response carrying the given ETag and the Last-Modified validator of the customer.
+     *
+     * @param customer the customer returned in the response
+     * @param eTag     the unquoted entity tag of the returned representation
+     * @return a response builder with the validators set
+     */
+    private static ResponseEntity.BodyBuilder okWithValidators(Customer customer, String eTag) {
+        var builder = ResponseEntity.ok().eTag(eTag);
+        if (customer.getUpdated() != null) {
+            builder.lastModified(customer.getUpdated());
+        }
+        return builder;
+    }
+
+    private static void writeLine(JsonGenerator generator, CustomerInfo customerInfo) {
+        try {
+            generator.writeObject(customerInfo);
+            generator.writeRaw('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
 }
@@ -0,0 +1,115 @@
+package tech.theraven.customers_api.controller;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tech.theraven.customers_api.mapper.CustomerMapper;
+import tech.theraven.customers_api.model.CustomerRecord;
+import tech.theraven.customers_api.model.dto.CursorPage;
+import tech.theraven.customers_api.model.dto.CustomerCreateDTO;
+import tech.theraven.customers_api.model.dto.CustomerInfo;
+import tech.theraven.customers_api.model.dto.CustomerUpdateDTO;
+import tech.theraven.customers_api.service.ReactiveCustomerService;
+import tech.theraven.customers_api.util.CursorCodec;
+import tech.theraven.customers_api.util.CustomerETag;
+
+import java.time.Instant;
+
+import static org.springframework.http.HttpStatus.CREATED;
+import static tech.theraven.customers_api.constants.PaginationConstants.*;
+
+/**
+ * WebFlux counterpart of {@link CustomerController}, active with the {@code reactive} profile.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/customers")
+@RequiredArgsConstructor
+public class ReactiveCustomerController {
+
+    private static final String ANY_ETAG = "*";
+
+    private final ReactiveCustomerService customerService;
+    private final CustomerMapper mapper;
+
+    @PostMapping
+    public Mono<ResponseEntity<CustomerInfo>> createCustomer(@Valid @RequestBody CustomerCreateDTO customerCreateDTO) {
+        var customer = mapper.toCustomerRecord(customerCreateDTO);
+        return customerService.create(customer)
+                .map(mapper::toCustomerInfo)
+                .map(customerInfo -> ResponseEntity.status(CREATED).body(customerInfo));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<CustomerInfo>> getCustomer(@PathVariable Long id) {
+        return customerService.getById(id)
+                .map(customer -> okWithValidators(customer).body(mapper.toCustomerInfo(customer)));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<CursorPage<CustomerInfo>>> getCustomers(
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Min(MIN_PAGE_SIZE) @Max(MAX_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String after) {
+        var afterId = after != null ? CursorCodec.decode(after, 1)[0] : 0L;
+        return customerService.getCustomers(afterId, limit)
+                .collectList()
+                .map(customers -> {
+                    var content = customers.stream()
+                            .map(mapper::toCustomerInfo)
+                            .toList();
+                    var nextCursor = customers.size() == limit
+                            ? CursorCodec.encode(customers.getLast().getId())
+                            : null;
+                    return ResponseEntity.ok(new CursorPage<>(content, nextCursor));
+                });
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CustomerInfo> exportCustomers() {
+        return customerService.getAllCustomers()
+                .map(mapper::toCustomerInfo);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<CustomerInfo>> updateCustomer(
+            @Valid @RequestBody CustomerUpdateDTO customerUpdateDTO,
+            @PathVariable Long id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        var customer = mapper.toCustomerRecord(customerUpdateDTO);
+        var updatedCustomer = ifMatch == null || ANY_ETAG.equals(ifMatch.trim())
+                ? customerService.update(id, customer)
+                : customerService.update(id, customer, CustomerETag.parseVersion(id, ifMatch));
+        return updatedCustomer
+                .map(updated -> okWithValidators(updated).body(mapper.toCustomerInfo(updated)));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteCustomer(@PathVariable Long id) {
+        return customerService.deactivate(id)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    /**
+     * Creates a 200 response carrying the ETag and Last-Modified validators of the customer.
+     * For GET requests, Spring compares them with If-None-Match and If-Modified-Since
+     * and answers 304 without a body when the client copy is still current.
+     *
+     * @param customer the customer returned in the response
+     * @return a response builder with the validators set
+     */
+    private static ResponseEntity.BodyBuilder okWithValidators(CustomerRecord customer) {
+        var builder = ResponseEntity.ok().eTag(CustomerETag.of(customer.getId(), customer.getVersion()));
+        if (customer.getUpdated() != null) {
+            builder.lastModified(Instant.ofEpochSecond(customer.getUpdated()));
+        }
+        return builder;
+    }
+}
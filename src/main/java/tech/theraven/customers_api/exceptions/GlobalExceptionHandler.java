@@ -1,21 +1,42 @@
 package tech.theraven.customers_api.exceptions;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ServerWebInputException;
 import tech.theraven.customers_api.exceptions.custom.BasicApplicationException;
 import tech.theraven.customers_api.exceptions.dto.ErrorResponse;
 
+import java.sql.SQLTransientConnectionException;
+
+import static tech.theraven.customers_api.constants.MetricsConstants.*;
+import static tech.theraven.customers_api.util.ConstraintViolations.isEmailUniqueViolation;
+
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final MeterRegistry meterRegistry;
+
     /**
      * Handles {@link BasicApplicationException} and logs the error
      * before returning an error response.
@@ -27,7 +48,13 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(BasicApplicationException.class)
     public ResponseEntity<ErrorResponse> handleCustomException(final BasicApplicationException ex) {
         log.error(ex.getMessage());
+        countException(ex, ex.getHttpStatus());
         var response = new ErrorResponse(ex.getMessage());
+        if (ex.getHttpStatus() == HttpStatus.SERVICE_UNAVAILABLE) {
+            return ResponseEntity.status(ex.getHttpStatus())
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .body(response);
+        }
         return new ResponseEntity<>(response, ex.getHttpStatus());
     }
 
@@ -41,15 +68,78 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler({
             MethodArgumentNotValidException.class,
+            HandlerMethodValidationException.class,
             HttpMessageNotReadableException.class,
-            MethodArgumentTypeMismatchException.class})
+            MethodArgumentTypeMismatchException.class,
+            WebExchangeBindException.class,
+            ServerWebInputException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<ErrorResponse> handleBadRequest(final Exception ex) {
         log.error(ex.getMessage());
+        countException(ex, HttpStatus.BAD_REQUEST);
         var response = new ErrorResponse(ex.getMessage());
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles data integrity violations that were not mapped to an application exception and logs the error.
+     * A violation of the unique email constraint by a concurrent request is answered with a conflict response,
+     * any other violation with a bad request response. The database message is not returned,
+     * as it can contain constraint names and the values of other customers.
+     *
+     * @param ex {@link DataIntegrityViolationException} exception to handle.
+     * @return A ResponseEntity containing an error response
+     * with a generic message and timestamp.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(final DataIntegrityViolationException ex) {
+        log.error(ex.getMostSpecificCause().getMessage());
+        var status = isEmailUniqueViolation(ex) ? HttpStatus.CONFLICT : HttpStatus.BAD_REQUEST;
+        countException(ex, status);
+        var response = new ErrorResponse(status == HttpStatus.CONFLICT
+                ? "Customer with this email already exists!"
+                : "Customer data violates a database constraint!");
+        return new ResponseEntity<>(response, status);
+    }
+
+    /**
+     * Handles optimistic locking failures caused by a concurrent update of the same entity
+     * and logs the error before returning a conflict response.
+     *
+     * @param ex {@link OptimisticLockingFailureException} exception to handle.
+     * @return A ResponseEntity containing an error response
+     * with the exception message and timestamp.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(final OptimisticLockingFailureException ex) {
+        log.error(ex.getMessage());
+        countException(ex, HttpStatus.CONFLICT);
+        var response = new ErrorResponse(ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles failures to obtain a database connection, such as an exhausted connection pool,
+     * and logs the error before returning a service unavailable response asking the client to retry.
+     *
+     * @param ex The exception thrown while acquiring a connection.
+     * @return A ResponseEntity containing an error response
+     * with a generic message and timestamp.
+     */
+    @ExceptionHandler({
+            CannotCreateTransactionException.class,
+            DataAccessResourceFailureException.class,
+            SQLTransientConnectionException.class})
+    public ResponseEntity<ErrorResponse> handleDatabaseUnavailable(final Exception ex) {
+        log.error(ex.getMessage());
+        countException(ex, HttpStatus.SERVICE_UNAVAILABLE);
+        var response = new ErrorResponse("Database is temporarily unavailable. Please try again later");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(response);
+    }
+
     /**
      * Handles server exceptions and logs the error
      * before returning an internal server error response.
@@ -62,8 +152,15 @@ public class GlobalExceptionHandler {
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ResponseEntity<ErrorResponse> handleServerException(final Exception ex) {
         log.error(ex.getMessage());
+        countException(ex, HttpStatus.INTERNAL_SERVER_ERROR);
         var response = new ErrorResponse(ex.getMessage());
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    private void countException(final Exception ex, final HttpStatusCode status) {
+        meterRegistry.counter(EXCEPTIONS_METRIC,
+                        EXCEPTION_TAG, ex.getClass().getSimpleName(),
+                        STATUS_TAG, String.valueOf(status.value()))
+                .increment();
+    }
 }
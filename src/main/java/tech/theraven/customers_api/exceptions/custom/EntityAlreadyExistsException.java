@@ -13,6 +13,6 @@ public class EntityAlreadyExistsException extends BasicApplicationException {
      *                   providing additional details about the duplicated entity.
      */
     public EntityAlreadyExistsException(String entityType, String details) {
-        super(String.format("%s with '%s' already exists!", entityType, details), HttpStatus.BAD_REQUEST);
+        super(String.format("%s with '%s' already exists!", entityType, details), HttpStatus.CONFLICT);
     }
 }
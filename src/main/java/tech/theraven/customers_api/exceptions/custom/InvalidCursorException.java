@@ -0,0 +1,16 @@
+package tech.theraven.customers_api.exceptions.custom;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends BasicApplicationException {
+
+    /**
+     * Constructs a new InvalidCursorException for a cursor
+     * that could not be decoded.
+     *
+     * @param cursor The cursor value received from the client.
+     */
+    public InvalidCursorException(String cursor) {
+        super(String.format("Cursor '%s' is not valid!", cursor), HttpStatus.BAD_REQUEST);
+    }
+}
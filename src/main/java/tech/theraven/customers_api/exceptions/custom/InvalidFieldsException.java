@@ -0,0 +1,16 @@
+package tech.theraven.customers_api.exceptions.custom;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidFieldsException extends BasicApplicationException {
+
+    /**
+     * Constructs a new InvalidFieldsException for a field selection
+     * naming a field the customer representation does not have.
+     *
+     * @param field The unknown field name received from the client.
+     */
+    public InvalidFieldsException(String field) {
+        super(String.format("Field '%s' is not a customer field!", field), HttpStatus.BAD_REQUEST);
+    }
+}
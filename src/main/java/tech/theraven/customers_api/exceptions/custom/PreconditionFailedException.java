@@ -0,0 +1,18 @@
+package tech.theraven.customers_api.exceptions.custom;
+
+import org.springframework.http.HttpStatus;
+
+public class PreconditionFailedException extends BasicApplicationException {
+
+    /**
+     * Constructs a new PreconditionFailedException with the specified
+     * entity type and details about the failed precondition.
+     *
+     * @param entityType The type of entity the precondition was checked for.
+     * @param details    The precondition that was not met,
+     *                   providing additional details about the entity state.
+     */
+    public PreconditionFailedException(String entityType, String details) {
+        super(String.format("%s does not match precondition `%s`!", entityType, details), HttpStatus.PRECONDITION_FAILED);
+    }
+}
@@ -0,0 +1,15 @@
+package tech.theraven.customers_api.exceptions.custom;
+
+import org.springframework.http.HttpStatus;
+
+public class ServiceUnavailableException extends BasicApplicationException {
+
+    /**
+     * Constructs a new ServiceUnavailableException with the specified message.
+     *
+     * @param message Error message explaining why the request could not be handled in time.
+     */
+    public ServiceUnavailableException(String message) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
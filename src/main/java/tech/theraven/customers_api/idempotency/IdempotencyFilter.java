@@ -0,0 +1,263 @@
+package tech.theraven.customers_api.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import tech.theraven.customers_api.exceptions.dto.ErrorResponse;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static tech.theraven.customers_api.constants.MetricsConstants.IDEMPOTENT_REPLAYS_METRIC;
+
+/**
+ * Makes mutating requests carrying an {@code Idempotency-Key} header safe to retry.
+ * <p>
+ * The response of the first request with a key is recorded in the {@link IdempotencyStore},
+ * and retries with the same key, method and path get it replayed without reaching the controller.
+ * The first request claims the key in the store before it runs, so retries arriving while it is still running,
+ * on this node or another one, wait for its response instead of executing again. A retry that waited longer than
+ * the wait timeout is answered with 409 Conflict and {@code Retry-After}.
+ * Server errors are not recorded, and release the key, so a retry after one executes the request again.
+ * Reusing a key for a request with a different body is rejected with 422 Unprocessable Entity.
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final List<String> REPLAYED_HEADERS = List.of(HttpHeaders.ETAG, HttpHeaders.LOCATION);
+    private static final Duration CLAIM_POLL_INTERVAL = Duration.ofMillis(50);
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final Duration waitTimeout;
+    private final Counter replays;
+    private final ConcurrentMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyFilter(IdempotencyStore store, ObjectMapper objectMapper, Duration waitTimeout,
+                             MeterRegistry meterRegistry) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.waitTimeout = waitTimeout;
+        this.replays = Counter.builder(IDEMPOTENT_REPLAYS_METRIC)
+                .description("Requests answered with the recorded response of their idempotency key")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !MUTATING_METHODS.contains(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        var idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key must have between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        var key = request.getMethod() + " " + request.getRequestURI() + " " + idempotencyKey;
+
+        var recorded = lookup(key);
+        if (recorded.isPresent()) {
+            replay(recorded.get(), request, response);
+            return;
+        }
+
+        var execution = new CompletableFuture<StoredResponse>();
+        var running = inFlight.putIfAbsent(key, execution);
+        if (running != null) {
+            // Another request with the key runs on this node
+            replayOrReject(await(running), request, response);
+            return;
+        }
+        try {
+            var deadline = System.nanoTime() + waitTimeout.toNanos();
+            while (!claim(key)) {
+                // Another node runs a request with the key, or the first request was recorded since the lookup
+                recorded = lookup(key);
+                if (recorded.isPresent() || System.nanoTime() - deadline >= 0) {
+                    execution.complete(recorded.orElse(null));
+                    replayOrReject(recorded, request, response);
+                    return;
+                }
+                pause();
+            }
+            execution.complete(execute(key, request, response, filterChain));
+        } catch (IOException | ServletException | RuntimeException ex) {
+            execution.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, execution);
+        }
+    }
+
+    private StoredResponse execute(String key, HttpServletRequest request, HttpServletResponse response,
+                                   FilterChain filterChain) throws ServletException, IOException {
+        var cachingRequest = new ContentCachingRequestWrapper(request);
+        var cachingResponse = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(cachingRequest, cachingResponse);
+        } catch (IOException | ServletException | RuntimeException ex) {
+            release(key);
+            throw ex;
+        }
+        // Caches whatever part of the body the handler did not read, so the fingerprint covers all of it
+        cachingRequest.getInputStream().readAllBytes();
+
+        var headers = new HashMap<String, String>();
+        if (cachingResponse.getContentType() != null) {
+            headers.put(HttpHeaders.CONTENT_TYPE, cachingResponse.getContentType());
+        }
+        REPLAYED_HEADERS.forEach(name -> {
+            var value = cachingResponse.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        });
+        var result = new StoredResponse(fingerprint(cachingRequest.getContentAsByteArray()),
+                cachingResponse.getStatus(), headers, cachingResponse.getContentAsByteArray());
+        cachingResponse.copyBodyToResponse();
+
+        if (HttpStatus.valueOf(result.status()).is5xxServerError()) {
+            release(key);
+        } else {
+            record(key, result);
+        }
+        return result;
+    }
+
+    private void record(String key, StoredResponse result) {
+        try {
+            store.put(key, result);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to record the response of idempotency key {}: {}", key, ex.getMessage());
+            release(key);
+        }
+    }
+
+    /**
+     * Claims a key in the store. A request whose key cannot be claimed because the store fails is executed anyway,
+     * as a failing lookup is, so an unavailable store does not take the mutations down.
+     */
+    private boolean claim(String key) {
+        try {
+            return store.claim(key);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to claim idempotency key {}: {}", key, ex.getMessage());
+            return true;
+        }
+    }
+
+    private void release(String key) {
+        try {
+            store.release(key);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to release idempotency key {}: {}", key, ex.getMessage());
+        }
+    }
+
+    private Optional<StoredResponse> lookup(String key) {
+        try {
+            return store.get(key);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to look up idempotency key {}: {}", key, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void replayOrReject(Optional<StoredResponse> recorded, HttpServletRequest request,
+                                HttpServletResponse response) throws IOException {
+        if (recorded.isPresent()) {
+            replay(recorded.get(), request, response);
+        } else {
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            writeError(response, HttpStatus.CONFLICT, "A request with the same Idempotency-Key is still in progress");
+        }
+    }
+
+    private void replay(StoredResponse recorded, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (!recorded.fingerprint().equals(fingerprint(request.getInputStream().readAllBytes()))) {
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Idempotency-Key was already used for a different request");
+            return;
+        }
+        replays.increment();
+        response.setStatus(recorded.status());
+        recorded.headers().forEach(response::setHeader);
+        response.setHeader(IDEMPOTENT_REPLAYED_HEADER, Boolean.TRUE.toString());
+        response.getOutputStream().write(recorded.body());
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(message));
+    }
+
+    /**
+     * Waits for the response of a request with the same key running on this node.
+     *
+     * @return the response, or an empty Optional if it is not there within the wait timeout
+     */
+    private Optional<StoredResponse> await(CompletableFuture<StoredResponse> running) throws ServletException {
+        try {
+            return Optional.ofNullable(running.get(waitTimeout.toNanos(), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException ex) {
+            return Optional.empty();
+        } catch (ExecutionException ex) {
+            throw new ServletException("The request with the same idempotency key failed", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServletException("Interrupted while waiting for the request with the same idempotency key", ex);
+        }
+    }
+
+    private static void pause() throws ServletException {
+        try {
+            Thread.sleep(CLAIM_POLL_INTERVAL);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServletException("Interrupted while waiting for the request with the same idempotency key", ex);
+        }
+    }
+
+    private static String fingerprint(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
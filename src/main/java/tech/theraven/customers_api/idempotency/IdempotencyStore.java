@@ -0,0 +1,45 @@
+package tech.theraven.customers_api.idempotency;
+
+import java.util.Optional;
+
+/**
+ * Storage of the responses recorded for idempotency keys, and of the claims of the keys whose request is running.
+ * Implementations bound how long, and possibly how many, responses are kept, and expire a claim that was
+ * neither released nor replaced with a response, so a node that died while running a request does not
+ * block its key forever.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Retrieves the response recorded for a key.
+     *
+     * @param key the idempotency key, scoped to the request method and path
+     * @return the recorded response, or an empty Optional if there is none
+     */
+    Optional<StoredResponse> get(String key);
+
+    /**
+     * Records the response of a key.
+     *
+     * @param key      the idempotency key, scoped to the request method and path
+     * @param response the response to replay
+     */
+    void put(String key, StoredResponse response);
+
+    /**
+     * Claims a key for a request about to run, unless the key is already claimed or has a recorded response.
+     * The claim is replaced by {@link #put} or removed by {@link #release}.
+     *
+     * @param key the idempotency key, scoped to the request method and path
+     * @return true if the key was claimed, false if another request holds it or its response is recorded
+     */
+    boolean claim(String key);
+
+    /**
+     * Releases the claim of a key whose request ran without a response to record, so a retry runs it again.
+     * A response recorded for the key in the meantime is kept.
+     *
+     * @param key the idempotency key, scoped to the request method and path
+     */
+    void release(String key);
+}
@@ -0,0 +1,61 @@
+package tech.theraven.customers_api.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * {@link IdempotencyStore} living in the current JVM, bounded in size and evicting responses after their time to live.
+ * A claim is kept as a marker in place of the response, so claiming a key and recording its response are atomic.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private static final Object CLAIMED = new Object();
+
+    private final Cache<String, Object> responses;
+
+    public InMemoryIdempotencyStore(long maximumSize, Duration timeToLive, Duration claimTimeToLive) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Object>() {
+                    @Override
+                    public long expireAfterCreate(String key, Object value, long currentTime) {
+                        return (value == CLAIMED ? claimTimeToLive : timeToLive).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Object value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Object value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public Optional<StoredResponse> get(String key) {
+        return responses.getIfPresent(key) instanceof StoredResponse response ? Optional.of(response) : Optional.empty();
+    }
+
+    @Override
+    public void put(String key, StoredResponse response) {
+        responses.put(key, response);
+    }
+
+    @Override
+    public boolean claim(String key) {
+        return responses.asMap().putIfAbsent(key, CLAIMED) == null;
+    }
+
+    @Override
+    public void release(String key) {
+        responses.asMap().remove(key, CLAIMED);
+    }
+}
@@ -0,0 +1,65 @@
+package tech.theraven.customers_api.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link IdempotencyStore} backed by Redis, so a retry is replayed whichever node it reaches.
+ * Responses are stored as JSON and expire after their time to live. A claim is a marker stored
+ * under the key of the response with {@code SET NX}, so only one node runs the request of a key.
+ */
+@RequiredArgsConstructor
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String CLAIMED = "claimed";
+    private static final RedisScript<Long> RELEASE = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0""", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String keyPrefix;
+    private final Duration timeToLive;
+    private final Duration claimTimeToLive;
+
+    @Override
+    public Optional<StoredResponse> get(String key) {
+        var json = redisTemplate.opsForValue().get(keyPrefix + key);
+        if (json == null || json.equals(CLAIMED)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(json, StoredResponse.class));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to deserialize the response of idempotency key " + key, ex);
+        }
+    }
+
+    @Override
+    public void put(String key, StoredResponse response) {
+        try {
+            redisTemplate.opsForValue().set(keyPrefix + key, objectMapper.writeValueAsString(response), timeToLive);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize the response of idempotency key " + key, ex);
+        }
+    }
+
+    @Override
+    public boolean claim(String key) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(keyPrefix + key, CLAIMED, claimTimeToLive));
+    }
+
+    @Override
+    public void release(String key) {
+        redisTemplate.execute(RELEASE, List.of(keyPrefix + key), CLAIMED);
+    }
+}
@@ -0,0 +1,14 @@
+package tech.theraven.customers_api.idempotency;
+
+import java.util.Map;
+
+/**
+ * Represents a response recorded for an idempotency key, replayed to retries of the same request.
+ *
+ * @param fingerprint the SHA-256 of the request body, to detect a key reused for a different request
+ * @param status      the HTTP status
+ * @param headers     the replayed headers, such as Content-Type, ETag and Location
+ * @param body        the response body
+ */
+public record StoredResponse(String fingerprint, int status, Map<String, String> headers, byte[] body) {
+}
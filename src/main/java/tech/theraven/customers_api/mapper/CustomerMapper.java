@@ -3,6 +3,8 @@ package tech.theraven.customers_api.mapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import tech.theraven.customers_api.model.Customer;
+import tech.theraven.customers_api.model.CustomerRecord;
+import tech.theraven.customers_api.model.dto.CustomerChange;
 import tech.theraven.customers_api.model.dto.CustomerInfo;
 import tech.theraven.customers_api.model.dto.CustomerCreateDTO;
 import tech.theraven.customers_api.model.dto.CustomerUpdateDTO;
@@ -14,17 +16,39 @@ public interface CustomerMapper {
     @Mapping(target = "isActive", ignore = true)
     @Mapping(target = "created", ignore = true)
     @Mapping(target = "updated", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Customer toCustomer(CustomerCreateDTO customerCreateDTO);
 
     CustomerInfo toCustomerInfo(Customer customer);
 
+    @Mapping(target = "active", source = "isActive")
+    CustomerChange toCustomerChange(Customer customer);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "email", ignore = true)
     @Mapping(target = "isActive", ignore = true)
     @Mapping(target = "created", ignore = true)
     @Mapping(target = "updated", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Customer toCustomer(CustomerUpdateDTO customerUpdateDTO);
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "isActive", ignore = true)
+    @Mapping(target = "created", ignore = true)
+    @Mapping(target = "updated", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    CustomerRecord toCustomerRecord(CustomerCreateDTO customerCreateDTO);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "email", ignore = true)
+    @Mapping(target = "isActive", ignore = true)
+    @Mapping(target = "created", ignore = true)
+    @Mapping(target = "updated", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    CustomerRecord toCustomerRecord(CustomerUpdateDTO customerUpdateDTO);
+
+    CustomerInfo toCustomerInfo(CustomerRecord customerRecord);
+
     CustomerCreateDTO toCustomerCreateDTO(Customer customer);
 
     CustomerUpdateDTO toCustomerUpdateDTO(Customer customer);
@@ -0,0 +1,45 @@
+package tech.theraven.customers_api.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+import static tech.theraven.customers_api.constants.MetricsConstants.*;
+
+/**
+ * Records how many SQL statements every request executed, tagged like {@code http.server.requests},
+ * so that N+1 regressions show up per endpoint.
+ */
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            var queries = QueryCounter.stop();
+            var uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder(REQUEST_QUERIES_METRIC)
+                    .description("SQL statements executed per HTTP request")
+                    .tag(METHOD_TAG, request.getMethod())
+                    .tag(URI_TAG, uri != null ? uri.toString() : UNKNOWN_URI)
+                    .register(meterRegistry)
+                    .record(queries);
+        }
+    }
+}
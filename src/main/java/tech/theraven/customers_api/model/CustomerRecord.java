@@ -0,0 +1,47 @@
+package tech.theraven.customers_api.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * R2DBC mapping of the {@code customers} table used by the reactive stack.
+ * The schema is the one managed by Flyway for {@link Customer}, timestamps are kept as epoch seconds.
+ */
+@Builder
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("customers")
+public class CustomerRecord {
+
+    @Id
+    private Long id;
+
+    @Column("full_name")
+    private String fullName;
+
+    @Column("email")
+    private String email;
+
+    @Column("phone")
+    private String phone;
+
+    @Builder.Default
+    @Column("is_active")
+    private Boolean isActive = true;
+
+    @Column("created")
+    private Long created;
+
+    @Column("updated")
+    private Long updated;
+
+    @Version
+    @Column("version")
+    private Long version;
+}
@@ -0,0 +1,37 @@
+package tech.theraven.customers_api.model.dto;
+
+import java.util.function.Function;
+
+/**
+ * Represents the outcome of a single item of a batch operation.
+ *
+ * @param index   the position of the item in the request
+ * @param status  whether the item was processed successfully
+ * @param result  the result of the item, or {@code null} if it failed
+ * @param message the reason of the failure, or {@code null} if it succeeded
+ */
+public record BatchItemResult<T>(int index, Status status, T result, String message) {
+
+    public enum Status {
+        SUCCEEDED,
+        FAILED
+    }
+
+    public static <T> BatchItemResult<T> succeeded(int index, T result) {
+        return new BatchItemResult<>(index, Status.SUCCEEDED, result, null);
+    }
+
+    public static <T> BatchItemResult<T> failed(int index, String message) {
+        return new BatchItemResult<>(index, Status.FAILED, null, message);
+    }
+
+    /**
+     * Converts the result of a succeeded item, keeping the index, status and message.
+     *
+     * @param mapper the function to apply to the result
+     * @return a new BatchItemResult with the converted result
+     */
+    public <R> BatchItemResult<R> map(Function<? super T, ? extends R> mapper) {
+        return new BatchItemResult<>(index, status, result != null ? mapper.apply(result) : null, message);
+    }
+}
@@ -0,0 +1,12 @@
+package tech.theraven.customers_api.model.dto;
+
+import java.util.List;
+
+/**
+ * Represents a single page of a cursor-paginated collection.
+ *
+ * @param content    the elements of the page
+ * @param nextCursor the opaque cursor of the next page, or {@code null} if this is the last page
+ */
+public record CursorPage<T>(List<T> content, String nextCursor) {
+}
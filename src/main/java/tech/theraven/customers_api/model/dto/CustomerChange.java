@@ -0,0 +1,20 @@
+package tech.theraven.customers_api.model.dto;
+
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * Represents the current state of a changed customer in the changes feed.
+ * A deactivated customer is reported with {@code active} set to false and acts as a tombstone.
+ */
+@Data
+public class CustomerChange {
+    private Long id;
+    private String fullName;
+    private String email;
+    private String phone;
+    private Boolean active;
+    private Instant updated;
+    private Long version;
+}
@@ -0,0 +1,88 @@
+package tech.theraven.customers_api.model.dto;
+
+import jakarta.persistence.Tuple;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import tech.theraven.customers_api.exceptions.custom.InvalidFieldsException;
+import tech.theraven.customers_api.model.Customer;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Represents a field of the customer representation that can be selected with a sparse fieldset.
+ * The field name is both the JSON property of {@link CustomerInfo} and the attribute of {@link Customer}.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CustomerField {
+    ID("id", Customer::getId),
+    FULL_NAME("fullName", Customer::getFullName),
+    EMAIL("email", Customer::getEmail),
+    PHONE("phone", Customer::getPhone);
+
+    private final String attribute;
+    private final Function<Customer, Object> getter;
+
+    /**
+     * Resolves a sparse fieldset from the field names requested by a client.
+     *
+     * @param names the requested field names
+     * @return the requested fields, in declaration order
+     * @throws InvalidFieldsException if a name is not a customer field or no field is requested
+     */
+    public static Set<CustomerField> parse(Collection<String> names) throws InvalidFieldsException {
+        var fields = EnumSet.noneOf(CustomerField.class);
+        for (var name : names) {
+            var trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            fields.add(fromName(trimmed));
+        }
+        if (fields.isEmpty()) {
+            throw new InvalidFieldsException(String.join(",", names));
+        }
+        return fields;
+    }
+
+    /**
+     * Builds the sparse representation of a customer entity.
+     *
+     * @param customer the customer to represent
+     * @param fields   the fields to include
+     * @return the values of the fields keyed by field name
+     */
+    public static Map<String, Object> toMap(Customer customer, Set<CustomerField> fields) {
+        var values = new LinkedHashMap<String, Object>();
+        fields.forEach(field -> values.put(field.attribute, field.getter.apply(customer)));
+        return values;
+    }
+
+    /**
+     * Builds the sparse representation of a customer row selected by a projection query,
+     * where every selected field is aliased by its name.
+     *
+     * @param tuple  the selected row
+     * @param fields the fields to include
+     * @return the values of the fields keyed by field name
+     */
+    public static Map<String, Object> toMap(Tuple tuple, Set<CustomerField> fields) {
+        var values = new LinkedHashMap<String, Object>();
+        fields.forEach(field -> values.put(field.attribute, tuple.get(field.attribute)));
+        return values;
+    }
+
+    private static CustomerField fromName(String name) {
+        for (var field : values()) {
+            if (field.attribute.equals(name)) {
+                return field;
+            }
+        }
+        throw new InvalidFieldsException(name);
+    }
+}
@@ -0,0 +1,31 @@
+package tech.theraven.customers_api.model.dto;
+
+import java.time.Instant;
+
+/**
+ * Represents optional criteria a customer must meet to be listed.
+ * Time ranges include their start and exclude their end, unset criteria are not applied.
+ *
+ * @param active      whether the customer must be active or inactive
+ * @param createdFrom the earliest creation time
+ * @param createdTo   the creation time the customer must have been created before
+ * @param updatedFrom the earliest last update time
+ * @param updatedTo   the time the customer must have been last updated before
+ * @param hasPhone    whether the customer must have a phone or must not have one
+ */
+public record CustomerFilter(Boolean active,
+                             Instant createdFrom,
+                             Instant createdTo,
+                             Instant updatedFrom,
+                             Instant updatedTo,
+                             Boolean hasPhone) {
+
+    public static final CustomerFilter NONE = new CustomerFilter(null, null, null, null, null, null);
+
+    /**
+     * @return true if no criterion is set
+     */
+    public boolean isEmpty() {
+        return NONE.equals(this);
+    }
+}
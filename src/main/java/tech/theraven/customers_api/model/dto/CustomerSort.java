@@ -0,0 +1,86 @@
+package tech.theraven.customers_api.model.dto;
+
+import jakarta.persistence.Tuple;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import tech.theraven.customers_api.model.Customer;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Represents the order of a customer listing. Customers with the same sort value are ordered by ID
+ * in the same direction, so the order is total and can be paginated with a keyset cursor.
+ *
+ * @param field     the field to sort by
+ * @param direction the sort direction
+ */
+public record CustomerSort(Field field, Sort.Direction direction) {
+
+    public static final CustomerSort DEFAULT = new CustomerSort(Field.ID, Sort.Direction.ASC);
+    public static final CustomerSort CHANGES = new CustomerSort(Field.UPDATED, Sort.Direction.ASC);
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Field {
+        ID("id"),
+        CREATED("created"),
+        UPDATED("updated");
+
+        private final String attribute;
+    }
+
+    /**
+     * @return the Spring Data sort of this order, including the ID tiebreaker
+     */
+    public Sort toSort() {
+        var byId = Sort.by(direction, Field.ID.getAttribute());
+        return field == Field.ID ? byId : Sort.by(direction, field.getAttribute()).and(byId);
+    }
+
+    /**
+     * @return the number of keys in a cursor of this order
+     */
+    public int cursorKeys() {
+        return field == Field.ID ? 1 : 2;
+    }
+
+    /**
+     * @return the attributes a row must carry to extract its keyset position, sort value first
+     */
+    public List<String> keyAttributes() {
+        return field == Field.ID
+                ? List.of(Field.ID.getAttribute())
+                : List.of(field.getAttribute(), Field.ID.getAttribute());
+    }
+
+    /**
+     * Extracts the keyset position of the given customer in this order:
+     * its ID, preceded by the sort value in epoch seconds when sorting by a timestamp.
+     *
+     * @param customer the customer to extract the position of
+     * @return the keys identifying the position of the customer
+     */
+    public long[] keysOf(Customer customer) {
+        return switch (field) {
+            case ID -> new long[]{customer.getId()};
+            case CREATED -> new long[]{customer.getCreated().getEpochSecond(), customer.getId()};
+            case UPDATED -> new long[]{customer.getUpdated().getEpochSecond(), customer.getId()};
+        };
+    }
+
+    /**
+     * Extracts the keyset position of a row selected by a projection query,
+     * where each of the {@link #keyAttributes()} is aliased by its name.
+     *
+     * @param tuple the row to extract the position of
+     * @return the keys identifying the position of the row
+     */
+    public long[] keysOf(Tuple tuple) {
+        var id = tuple.get(Field.ID.getAttribute(), Long.class);
+        return field == Field.ID
+                ? new long[]{id}
+                : new long[]{tuple.get(field.getAttribute(), Instant.class).getEpochSecond(), id};
+    }
+}
@@ -0,0 +1,11 @@
+package tech.theraven.customers_api.model.dto;
+
+/**
+ * Represents the outcome of a bulk deactivation.
+ *
+ * @param deactivated     the number of customers that were deactivated
+ * @param alreadyInactive the number of customers that were already inactive
+ * @param notFound        the number of IDs that do not belong to any customer
+ */
+public record DeactivationSummary(int deactivated, int alreadyInactive, int notFound) {
+}
@@ -0,0 +1,23 @@
+package tech.theraven.customers_api.model.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Represents the outcome of looking up several entities by their IDs.
+ *
+ * @param found      the found entities, in the order their IDs were requested
+ * @param missingIds the requested IDs that do not belong to any entity, in request order
+ */
+public record LookupResult<T>(List<T> found, List<Long> missingIds) {
+
+    /**
+     * Converts the found entities, keeping their order and the missing IDs.
+     *
+     * @param mapper the function to apply to each found entity
+     * @return a new LookupResult with the converted entities
+     */
+    public <R> LookupResult<R> map(Function<? super T, ? extends R> mapper) {
+        return new LookupResult<>(found.stream().<R>map(mapper).toList(), missingIds);
+    }
+}
@@ -0,0 +1,27 @@
+package tech.theraven.customers_api.outbox;
+
+import tech.theraven.customers_api.model.CustomerEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link OutboxSink} keeping the published events in the memory of the current JVM.
+ * Intended for tests and single-node runs where no broker is available.
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<CustomerEvent> events = new ArrayList<>();
+
+    @Override
+    public synchronized void publish(List<CustomerEvent> events) {
+        this.events.addAll(events);
+    }
+
+    /**
+     * @return the events published so far, in publication order
+     */
+    public synchronized List<CustomerEvent> getEvents() {
+        return List.copyOf(events);
+    }
+}
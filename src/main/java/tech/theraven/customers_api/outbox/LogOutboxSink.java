@@ -0,0 +1,19 @@
+package tech.theraven.customers_api.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import tech.theraven.customers_api.model.CustomerEvent;
+
+import java.util.List;
+
+/**
+ * {@link OutboxSink} writing the events to the application log, for local runs without a broker.
+ */
+@Slf4j
+public class LogOutboxSink implements OutboxSink {
+
+    @Override
+    public void publish(List<CustomerEvent> events) {
+        events.forEach(event -> log.info("Customer event {} {} of customer {}: {}",
+                event.getId(), event.getType(), event.getCustomerId(), event.getPayload()));
+    }
+}
@@ -0,0 +1,81 @@
+package tech.theraven.customers_api.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.theraven.customers_api.model.CustomerEvent;
+import tech.theraven.customers_api.repository.CustomerEventRepository;
+
+import static tech.theraven.customers_api.constants.DatabaseConstants.OUTBOX_RELAY_LOCK_KEY;
+import static tech.theraven.customers_api.constants.MetricsConstants.OUTBOX_RELAYED_METRIC;
+
+/**
+ * Relays the events of the transactional outbox to the {@link OutboxSink}.
+ * <p>
+ * Each batch is read, published and deleted in one transaction holding a database advisory lock,
+ * so only one node relays at a time and events leave in ID order, which keeps the events
+ * of each customer in order. A batch is deleted only after the sink accepted it, and a failed
+ * batch stays in the outbox to be published again, so delivery is at least once.
+ */
+@Slf4j
+public class OutboxRelay {
+
+    private final CustomerEventRepository eventRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Counter relayedEvents;
+
+    public OutboxRelay(CustomerEventRepository eventRepository,
+                       OutboxSink sink,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry,
+                       int batchSize) {
+        this.eventRepository = eventRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.relayedEvents = meterRegistry.counter(OUTBOX_RELAYED_METRIC);
+    }
+
+    /**
+     * Relays pending events batch by batch until the outbox is drained
+     * or another node holds the relay lock.
+     */
+    @Scheduled(fixedDelayString = "${customers.outbox.relay.interval:PT1S}")
+    public void relay() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (RuntimeException ex) {
+            log.error("Failed to relay customer events, they will be retried: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Publishes and deletes the oldest pending events.
+     *
+     * @return the number of relayed events
+     */
+    private int relayBatch() {
+        var relayed = transactionTemplate.execute(status -> {
+            if (!eventRepository.tryLock(OUTBOX_RELAY_LOCK_KEY)) {
+                return 0;
+            }
+            var events = eventRepository.findByOrderByIdAsc(Limit.of(batchSize));
+            if (events.isEmpty()) {
+                return 0;
+            }
+            sink.publish(events);
+            eventRepository.deleteAllByIdInBatch(events.stream().map(CustomerEvent::getId).toList());
+            return events.size();
+        });
+        relayedEvents.increment(relayed);
+        return relayed;
+    }
+}
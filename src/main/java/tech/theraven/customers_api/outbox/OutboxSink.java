@@ -0,0 +1,20 @@
+package tech.theraven.customers_api.outbox;
+
+import tech.theraven.customers_api.model.CustomerEvent;
+
+import java.util.List;
+
+/**
+ * Destination the outbox relay publishes customer events to.
+ */
+public interface OutboxSink {
+
+    /**
+     * Publishes a batch of events, in the given order.
+     * The call must only return once every event has been accepted by the destination;
+     * if it throws, the whole batch is published again later, so events may be delivered more than once.
+     *
+     * @param events the events to publish, ordered by ID
+     */
+    void publish(List<CustomerEvent> events);
+}
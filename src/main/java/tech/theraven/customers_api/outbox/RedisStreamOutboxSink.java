@@ -0,0 +1,38 @@
+package tech.theraven.customers_api.outbox;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import tech.theraven.customers_api.model.CustomerEvent;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link OutboxSink} appending the events to a Redis stream.
+ * A batch is sent in a single pipeline; consumers read the stream with consumer groups
+ * and can discard redelivered events by their {@code eventId}.
+ */
+public class RedisStreamOutboxSink implements OutboxSink {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String stream;
+
+    public RedisStreamOutboxSink(StringRedisTemplate redisTemplate, String stream) {
+        this.redisTemplate = redisTemplate;
+        this.stream = stream;
+    }
+
+    @Override
+    public void publish(List<CustomerEvent> events) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            var stringConnection = (StringRedisConnection) connection;
+            events.forEach(event -> stringConnection.xAdd(stream, Map.of(
+                    "eventId", event.getId().toString(),
+                    "customerId", event.getCustomerId().toString(),
+                    "type", event.getType().name(),
+                    "payload", event.getPayload())));
+            return null;
+        });
+    }
+}
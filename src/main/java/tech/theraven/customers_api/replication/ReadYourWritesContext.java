@@ -0,0 +1,31 @@
+package tech.theraven.customers_api.replication;
+
+/**
+ * Marks whether the reads of the current thread must stay on the primary,
+ * because the client being served changed data recently and might not see it on a replica yet.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    /**
+     * Keeps the reads of the current thread on the primary until {@link #clear()}.
+     */
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    /**
+     * @return true if the reads of the current thread must stay on the primary
+     */
+    public static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get() != null;
+    }
+}
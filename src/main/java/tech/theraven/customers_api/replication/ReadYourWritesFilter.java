@@ -0,0 +1,75 @@
+package tech.theraven.customers_api.replication;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Keeps the reads of a client on the primary for a while after it changed data.
+ * A request with a mutating HTTP method sets a cookie holding the time until which
+ * the client is pinned; requests carrying an unexpired cookie are served from the primary only.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "customers-primary-until";
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        var now = Instant.now();
+        var mutating = !SAFE_METHODS.contains(request.getMethod());
+        if (mutating) {
+            response.addCookie(pinnedUntilCookie(now.plus(window)));
+        }
+        if (mutating || isPinned(request, now)) {
+            ReadYourWritesContext.pinToPrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+
+    private Cookie pinnedUntilCookie(Instant pinnedUntil) {
+        var cookie = new Cookie(COOKIE_NAME, Long.toString(pinnedUntil.toEpochMilli()));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+        return cookie;
+    }
+
+    private static boolean isPinned(HttpServletRequest request, Instant now) {
+        var cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        return Arrays.stream(cookies)
+                .filter(cookie -> COOKIE_NAME.equals(cookie.getName()))
+                .anyMatch(cookie -> isAfter(cookie.getValue(), now));
+    }
+
+    private static boolean isAfter(String epochMilli, Instant now) {
+        try {
+            return Long.parseLong(epochMilli) > now.toEpochMilli();
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package tech.theraven.customers_api.replication;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static tech.theraven.customers_api.constants.MetricsConstants.REPLICA_LAG_METRIC;
+import static tech.theraven.customers_api.constants.MetricsConstants.REPLICA_TAG;
+
+/**
+ * Periodically measures the replication lag of every replica and tracks which replicas may serve reads.
+ * A replica is eligible while its lag is within the configured maximum; a replica that cannot be
+ * reached or has not been measured yet is not eligible, so reads fall back to the primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    /**
+     * Seconds since the last replayed transaction, or 0 when the replica has replayed everything it received.
+     * A database that is not in recovery, such as a local stand-in, has no lag.
+     */
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END""";
+
+    private final Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private final double maxLagSeconds;
+    private volatile List<String> eligibleReplicas = List.of();
+
+    public ReplicaLagMonitor(Map<String, ? extends DataSource> replicas, Duration maxLag, MeterRegistry meterRegistry) {
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        replicas.forEach((key, dataSource) -> {
+            this.replicas.put(key, new JdbcTemplate(dataSource));
+            Gauge.builder(REPLICA_LAG_METRIC, lagSeconds, lags -> lags.getOrDefault(key, Double.NaN))
+                    .description("Replication lag of a read replica in seconds")
+                    .tag(REPLICA_TAG, key)
+                    .register(meterRegistry);
+        });
+    }
+
+    /**
+     * Measures the lag of every replica and updates the eligible ones.
+     */
+    @Scheduled(fixedDelayString = "${customers.replication.lag-check-interval:PT2S}")
+    public void checkLag() {
+        var eligible = new ArrayList<String>(replicas.size());
+        replicas.forEach((key, jdbcTemplate) -> {
+            try {
+                var lag = jdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+                lagSeconds.put(key, lag);
+                if (lag != null && lag <= maxLagSeconds) {
+                    eligible.add(key);
+                }
+            } catch (DataAccessException ex) {
+                lagSeconds.remove(key);
+                log.warn("Failed to check the lag of replica {}: {}", key, ex.getMessage());
+            }
+        });
+        eligibleReplicas = List.copyOf(eligible);
+    }
+
+    /**
+     * @return the keys of the replicas that may currently serve reads
+     */
+    public List<String> getEligibleReplicas() {
+        return eligibleReplicas;
+    }
+}
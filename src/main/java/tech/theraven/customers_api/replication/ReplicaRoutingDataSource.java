@@ -0,0 +1,40 @@
+package tech.theraven.customers_api.replication;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes the connections of read-only transactions to the replicas and everything else to the primary.
+ * Replicas are used in turn among the ones the {@link ReplicaLagMonitor} considers eligible; reads fall back
+ * to the primary when no replica is eligible or when the client must read its own writes.
+ * <p>
+ * The routing key is resolved when a connection is requested, so this data source must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction manager then
+ * marks the transaction read-only before the first statement actually asks for a connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReadYourWritesContext.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+        var eligibleReplicas = lagMonitor.getEligibleReplicas();
+        if (eligibleReplicas.isEmpty()) {
+            return PRIMARY;
+        }
+        return eligibleReplicas.get(Math.floorMod(nextReplica.getAndIncrement(), eligibleReplicas.size()));
+    }
+}
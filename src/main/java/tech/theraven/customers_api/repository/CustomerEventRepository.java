@@ -0,0 +1,56 @@
+package tech.theraven.customers_api.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import tech.theraven.customers_api.model.CustomerEvent;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CustomerEventRepository extends JpaRepository<CustomerEvent, Long> {
+
+    /**
+     * Payload of an event, the state of the customer row in the JSON shape
+     * of {@link tech.theraven.customers_api.model.dto.CustomerChange}.
+     */
+    String EVENT_PAYLOAD = """
+            jsonb_build_object(
+                    'id', id,
+                    'fullName', full_name,
+                    'email', email,
+                    'phone', phone,
+                    'active', is_active,
+                    'updated', to_char(to_timestamp(updated) AT TIME ZONE 'UTC', 'YYYY-MM-DD"T"HH24:MI:SS"Z"'),
+                    'version', version)""";
+
+    /**
+     * Inserts an event of the given type for each selected customer, with the current state
+     * of the customer as payload.
+     */
+    String INSERT_EVENTS = """
+            INSERT INTO customer_events (customer_id, type, payload, created)
+            SELECT id, :type, """ + EVENT_PAYLOAD + """
+            , :created
+            FROM customers
+            """;
+
+    @Modifying(flushAutomatically = true)
+    @Query(nativeQuery = true, value = INSERT_EVENTS + """
+            WHERE id IN (:ids)
+            ORDER BY id""")
+    int appendAll(@Param("ids") Collection<Long> ids,
+                  @Param("type") String type,
+                  @Param("created") long created);
+
+    List<CustomerEvent> findByOrderByIdAsc(Limit limit);
+
+    List<CustomerEvent> findByCustomerIdOrderByIdAsc(Long customerId);
+
+    @Query(nativeQuery = true, value = "SELECT pg_try_advisory_xact_lock(:key)")
+    boolean tryLock(@Param("key") long key);
+}
@@ -0,0 +1,31 @@
+package tech.theraven.customers_api.repository;
+
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import tech.theraven.customers_api.model.Customer;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository fragment selecting a subset of customer columns, without loading the entities.
+ */
+public interface CustomerProjectionRepository {
+
+    /**
+     * Selects the given attributes of the customers matching the specification.
+     * Only the mapped columns are fetched and the rows are returned as tuples,
+     * so no entity is instantiated or tracked by the persistence context.
+     *
+     * @param specification the customers to select
+     * @param attributes    the attributes to select, each aliased by its name in the returned tuples
+     * @param sort          the order of the rows
+     * @param limit         the maximum number of rows to return
+     * @return the selected rows
+     */
+    List<Tuple> findAttributes(Specification<Customer> specification,
+                               Collection<String> attributes,
+                               Sort sort,
+                               int limit);
+}
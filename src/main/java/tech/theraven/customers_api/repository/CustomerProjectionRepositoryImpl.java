@@ -0,0 +1,45 @@
+package tech.theraven.customers_api.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import tech.theraven.customers_api.model.Customer;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Criteria API implementation of {@link CustomerProjectionRepository}.
+ */
+@RequiredArgsConstructor
+public class CustomerProjectionRepositoryImpl implements CustomerProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Tuple> findAttributes(Specification<Customer> specification,
+                                      Collection<String> attributes,
+                                      Sort sort,
+                                      int limit) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createTupleQuery();
+        var root = query.from(Customer.class);
+
+        query.multiselect(attributes.stream()
+                .<Selection<?>>map(attribute -> root.get(attribute).alias(attribute))
+                .toList());
+        var predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
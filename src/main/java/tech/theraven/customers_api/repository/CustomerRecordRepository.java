@@ -0,0 +1,96 @@
+package tech.theraven.customers_api.repository;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tech.theraven.customers_api.model.CustomerRecord;
+
+/**
+ * Reactive counterpart of {@link CustomerRepository}, running the same statements over R2DBC.
+ * Each change records its outbox event in the same statement, with the changed row as payload,
+ * as there is no JPA transaction around the reactive pipeline to append it in.
+ */
+@Repository
+public interface CustomerRecordRepository extends R2dbcRepository<CustomerRecord, Long> {
+
+    @Query("SELECT * FROM customers WHERE id > :afterId ORDER BY id LIMIT :limit")
+    Flux<CustomerRecord> findPage(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    Flux<CustomerRecord> findAllByOrderByIdAsc();
+
+    @Query("""
+            WITH changed AS (
+                INSERT INTO customers (full_name, email, phone, created, updated)
+                VALUES (:fullName, :email, :phone, :created, :created)
+                RETURNING *
+            ), events AS (
+                INSERT INTO customer_events (customer_id, type, payload, created)
+                SELECT id, :type, """ + CustomerEventRepository.EVENT_PAYLOAD + """
+                , created
+                FROM changed
+            )
+            SELECT * FROM changed""")
+    Mono<CustomerRecord> insert(@Param("fullName") String fullName,
+                                @Param("email") String email,
+                                @Param("phone") String phone,
+                                @Param("created") long created,
+                                @Param("type") String type);
+
+    @Query("""
+            WITH changed AS (
+                UPDATE customers
+                SET full_name = :fullName, phone = :phone, updated = :updated, version = version + 1
+                WHERE id = :id
+                RETURNING *
+            ), events AS (
+                INSERT INTO customer_events (customer_id, type, payload, created)
+                SELECT id, :type, """ + CustomerEventRepository.EVENT_PAYLOAD + """
+                , updated
+                FROM changed
+            )
+            SELECT * FROM changed""")
+    Mono<CustomerRecord> updateById(@Param("id") Long id,
+                                    @Param("fullName") String fullName,
+                                    @Param("phone") String phone,
+                                    @Param("updated") long updated,
+                                    @Param("type") String type);
+
+    @Query("""
+            WITH changed AS (
+                UPDATE customers
+                SET full_name = :fullName, phone = :phone, updated = :updated, version = version + 1
+                WHERE id = :id AND version = :version
+                RETURNING *
+            ), events AS (
+                INSERT INTO customer_events (customer_id, type, payload, created)
+                SELECT id, :type, """ + CustomerEventRepository.EVENT_PAYLOAD + """
+                , updated
+                FROM changed
+            )
+            SELECT * FROM changed""")
+    Mono<CustomerRecord> updateByIdAndVersion(@Param("id") Long id,
+                                              @Param("version") long version,
+                                              @Param("fullName") String fullName,
+                                              @Param("phone") String phone,
+                                              @Param("updated") long updated,
+                                              @Param("type") String type);
+
+    @Query("""
+            WITH changed AS (
+                UPDATE customers
+                SET is_active = FALSE, updated = :updated, version = version + 1
+                WHERE id = :id AND is_active
+                RETURNING *
+            ), events AS (
+                INSERT INTO customer_events (customer_id, type, payload, created)
+                SELECT id, :type, """ + CustomerEventRepository.EVENT_PAYLOAD + """
+                , updated
+                FROM changed
+                RETURNING customer_id
+            )
+            SELECT count(*) FROM events""")
+    Mono<Long> deactivateById(@Param("id") Long id, @Param("updated") long updated, @Param("type") String type);
+}
@@ -1,10 +1,115 @@
 package tech.theraven.customers_api.repository;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import tech.theraven.customers_api.model.Customer;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.*;
+import static tech.theraven.customers_api.constants.PaginationConstants.EXPORT_FETCH_SIZE;
+
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, Long> {
-    boolean existsByEmail(String email);
+public interface CustomerRepository extends JpaRepository<Customer, Long>, JpaSpecificationExecutor<Customer>,
+        CustomerProjectionRepository {
+    List<Customer> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query(nativeQuery = true, value = "SELECT * FROM customers WHERE id = ANY(:ids)")
+    List<Customer> findAllByIdArray(@Param("ids") Long[] ids);
+
+    @Query("SELECT c.email FROM Customer c WHERE c.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query(nativeQuery = true, value = """
+            UPDATE customers
+            SET full_name = :fullName, phone = CAST(:phone AS VARCHAR), updated = :updated, version = version + 1
+            WHERE id = :id
+            RETURNING *""")
+    Optional<Customer> updateById(@Param("id") Long id,
+                                  @Param("fullName") String fullName,
+                                  @Param("phone") String phone,
+                                  @Param("updated") long updated);
+
+    @Query(nativeQuery = true, value = """
+            UPDATE customers
+            SET full_name = :fullName, phone = CAST(:phone AS VARCHAR), updated = :updated, version = version + 1
+            WHERE id = :id AND version = :version
+            RETURNING *""")
+    Optional<Customer> updateByIdAndVersion(@Param("id") Long id,
+                                            @Param("version") long version,
+                                            @Param("fullName") String fullName,
+                                            @Param("phone") String phone,
+                                            @Param("updated") long updated);
+
+    @Query(nativeQuery = true, value = """
+            WITH candidates AS (
+                (SELECT id FROM customers WHERE lower(email) LIKE :prefix ORDER BY lower(email) LIMIT :candidates)
+                UNION
+                (SELECT id FROM customers WHERE full_name ILIKE :pattern LIMIT :candidates)
+                UNION
+                (SELECT id FROM customers WHERE lower(email) LIKE :pattern LIMIT :candidates)
+                UNION
+                (SELECT id FROM customers WHERE phone LIKE :pattern LIMIT :candidates)
+                UNION
+                (SELECT id FROM customers
+                 WHERE to_tsvector('simple', full_name) @@ to_tsquery('simple', :wordPrefixes)
+                 LIMIT :candidates)
+            )
+            SELECT c.* FROM customers c
+            JOIN candidates USING (id)
+            ORDER BY lower(c.email) LIKE :prefix DESC,
+                     greatest(similarity(c.full_name, :term), similarity(lower(c.email), :term), similarity(coalesce(c.phone, ''), :term)) DESC,
+                     c.id
+            LIMIT :limit OFFSET :offset""")
+    List<Customer> search(@Param("term") String term,
+                          @Param("pattern") String pattern,
+                          @Param("prefix") String prefix,
+                          @Param("wordPrefixes") String wordPrefixes,
+                          @Param("candidates") int candidates,
+                          @Param("limit") int limit,
+                          @Param("offset") long offset);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT c FROM Customer c ORDER BY c.id")
+    Stream<Customer> streamAll();
+
+    long countByIdIn(Collection<Long> ids);
+
+    /**
+     * Deactivates the active customers among the given ones and records a deactivation event for each of them
+     * in the outbox, in one statement, so that events are recorded exactly for the rows the statement changed.
+     *
+     * @return the number of deactivated customers
+     */
+    @Query(nativeQuery = true, value = """
+            WITH deactivated AS (
+                UPDATE customers
+                SET is_active = FALSE, updated = :updated, version = version + 1
+                WHERE id IN (:ids) AND is_active
+                RETURNING *
+            ), events AS (
+                INSERT INTO customer_events (customer_id, type, payload, created)
+                SELECT id, :type, """ + CustomerEventRepository.EVENT_PAYLOAD + """
+                , updated
+                FROM deactivated
+                ORDER BY id
+                RETURNING customer_id
+            )
+            SELECT count(*) FROM events""")
+    long deactivateAllById(@Param("ids") Collection<Long> ids,
+                           @Param("type") String type,
+                           @Param("updated") long updated);
 }
@@ -0,0 +1,85 @@
+package tech.theraven.customers_api.repository;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+import tech.theraven.customers_api.model.Customer;
+import tech.theraven.customers_api.model.dto.CustomerFilter;
+import tech.theraven.customers_api.model.dto.CustomerSort;
+
+import java.time.Instant;
+import java.util.ArrayList;
+
+/**
+ * Builds the {@link Specification}s used to list customers with {@link CustomerRepository}.
+ */
+public final class CustomerSpecifications {
+
+    private static final String ID = "id";
+    private static final String IS_ACTIVE = "isActive";
+    private static final String CREATED = "created";
+    private static final String UPDATED = "updated";
+    private static final String PHONE = "phone";
+
+    private CustomerSpecifications() {
+    }
+
+    /**
+     * Builds a specification of the customers meeting all criteria set in the filter.
+     *
+     * @param filter the criteria to meet
+     * @return the specification
+     */
+    public static Specification<Customer> matching(CustomerFilter filter) {
+        return (root, query, cb) -> {
+            var predicates = new ArrayList<Predicate>();
+            if (filter.active() != null) {
+                predicates.add(cb.equal(root.get(IS_ACTIVE), filter.active()));
+            }
+            if (filter.createdFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<Instant>get(CREATED), filter.createdFrom()));
+            }
+            if (filter.createdTo() != null) {
+                predicates.add(cb.lessThan(root.<Instant>get(CREATED), filter.createdTo()));
+            }
+            if (filter.updatedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<Instant>get(UPDATED), filter.updatedFrom()));
+            }
+            if (filter.updatedTo() != null) {
+                predicates.add(cb.lessThan(root.<Instant>get(UPDATED), filter.updatedTo()));
+            }
+            if (filter.hasPhone() != null) {
+                predicates.add(filter.hasPhone() ? cb.isNotNull(root.get(PHONE)) : cb.isNull(root.get(PHONE)));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Builds a specification of the customers following the given keyset position in the given order.
+     * For timestamp orders the redundant bound on the sort value lets Postgres start
+     * the index range scan at the position instead of filtering the whole index.
+     *
+     * @param sort the order of the listing
+     * @param keys the position as returned by {@link CustomerSort#keysOf(Customer)}
+     * @return the specification
+     */
+    public static Specification<Customer> after(CustomerSort sort, long[] keys) {
+        return (root, query, cb) -> {
+            var ascending = sort.direction().isAscending();
+            Path<Long> id = root.get(ID);
+            if (sort.field() == CustomerSort.Field.ID) {
+                return ascending ? cb.greaterThan(id, keys[0]) : cb.lessThan(id, keys[0]);
+            }
+
+            Path<Instant> sortValue = root.get(sort.field().getAttribute());
+            var lastValue = Instant.ofEpochSecond(keys[0]);
+            var lastId = keys[1];
+            return ascending
+                    ? cb.and(cb.greaterThanOrEqualTo(sortValue, lastValue),
+                    cb.or(cb.greaterThan(sortValue, lastValue), cb.greaterThan(id, lastId)))
+                    : cb.and(cb.lessThanOrEqualTo(sortValue, lastValue),
+                    cb.or(cb.lessThan(sortValue, lastValue), cb.lessThan(id, lastId)));
+        };
+    }
+}
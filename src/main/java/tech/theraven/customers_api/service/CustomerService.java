@@ -1,13 +1,28 @@
 package tech.theraven.customers_api.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.Tuple;
 import tech.theraven.customers_api.exceptions.custom.FieldUnchangedException;
+import tech.theraven.customers_api.exceptions.custom.PreconditionFailedException;
 import tech.theraven.customers_api.model.Customer;
+import tech.theraven.customers_api.model.dto.BatchItemResult;
+import tech.theraven.customers_api.model.dto.CustomerField;
+import tech.theraven.customers_api.model.dto.CustomerFilter;
+import tech.theraven.customers_api.model.dto.CustomerSort;
+import tech.theraven.customers_api.model.dto.DeactivationSummary;
+import tech.theraven.customers_api.model.dto.LookupResult;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Interface defining the service operations for managing customers.
+ * Every create, update and deactivation also records a customer event
+ * in the outbox, within the same transaction as the change.
+ * When read replicas are enabled, read-only queries may be served by a replica,
+ * unless documented otherwise.
  */
 public interface CustomerService {
 
@@ -19,8 +34,25 @@ public interface CustomerService {
      */
     Customer create(Customer customer);
 
+    /**
+     * Creates several customers at once.
+     * Emails are checked for duplicates with a single query and the new customers
+     * are inserted in JDBC batches. A customer whose email is already taken, either
+     * in the database or earlier in the same list, is not created and is reported as failed.
+     * When a concurrent request takes one of the emails between the check and the insert,
+     * the batch is rolled back and retried once, so that the conflict is reported for that customer only.
+     *
+     * @param customers the customers to create
+     * @return the outcome for each customer, in the order of the given list
+     */
+    List<BatchItemResult<Customer>> createAll(List<Customer> customers);
+
     /**
      * Retrieves a customer by their ID.
+     * The customer may be served from the customers cache, which is
+     * refreshed on create and update and evicted on deactivation.
+     * Cache misses are read from the primary, so a lagging replica cannot put a stale customer in the cache.
+     * Concurrent cache misses for the same customer share a single database query and its outcome.
      *
      * @param id the ID of the customer to retrieve
      * @return the customer with the specified ID
@@ -29,14 +61,94 @@ public interface CustomerService {
     Customer getById(Long id) throws EntityNotFoundException;
 
     /**
-     * Retrieves all customers.
+     * Retrieves several customers by their IDs with a single query.
+     * The query binds all IDs as one array parameter, so it has the same shape
+     * and execution plan whatever the number of IDs.
+     *
+     * @param ids the IDs of the customers to retrieve; repeated IDs are looked up once
+     * @return the found customers in the order of their first requested occurrence, and the IDs that were not found
+     */
+    LookupResult<Customer> getAllById(Collection<Long> ids);
+
+    /**
+     * Retrieves a page of customers ordered by ID.
+     * Pagination is keyset-based, so the cost of a page does not depend on its position.
      *
-     * @return a list of all customers
+     * @param afterId the ID after which the page starts (exclusive)
+     * @param limit   the maximum number of customers to return
+     * @return a list of at most {@code limit} customers with an ID greater than {@code afterId}
      */
-    List<Customer> getAllCustomers();
+    List<Customer> getCustomers(Long afterId, int limit);
 
     /**
-     * Updates an existing customer.
+     * Retrieves a page of customers meeting the filter, in the given order.
+     * The filter, the order and the keyset position are combined into a single query,
+     * served by the composite indexes on the sort columns.
+     *
+     * @param filter the criteria the customers must meet
+     * @param sort   the order of the customers
+     * @param after  the keyset position after which the page starts (exclusive), or null for the first page
+     * @param limit  the maximum number of customers to return
+     * @return a list of at most {@code limit} matching customers following the position
+     */
+    List<Customer> getCustomers(CustomerFilter filter, CustomerSort sort, long[] after, int limit);
+
+    /**
+     * Retrieves only the given fields of a page of customers meeting the filter, in the given order.
+     * Unlike {@link #getCustomers(CustomerFilter, CustomerSort, long[], int)}, only the needed columns
+     * are fetched and no entities are loaded. Besides the requested fields, each row carries
+     * the {@link CustomerSort#keyAttributes()} of the order, so the keyset position of the page can be built.
+     *
+     * @param fields the fields to retrieve
+     * @param filter the criteria the customers must meet
+     * @param sort   the order of the customers
+     * @param after  the keyset position after which the page starts (exclusive), or null for the first page
+     * @param limit  the maximum number of customers to return
+     * @return a list of at most {@code limit} rows, each aliasing the selected values by field name
+     */
+    List<Tuple> getCustomerFields(Set<CustomerField> fields, CustomerFilter filter, CustomerSort sort, long[] after, int limit);
+
+    /**
+     * Retrieves a page of the changes feed: customers ordered by last update time, then by ID.
+     * Deactivated customers are included, so readers also learn about deactivations.
+     * Changes more recent than the configured safety lag are held back until they are settled,
+     * so a reader resuming from the last returned position does not miss any change.
+     * The feed is always read from the primary, as a lagging replica could hide settled changes.
+     *
+     * @param after the position in the feed after which the page starts (exclusive),
+     *              as returned by {@link CustomerSort#keysOf(Customer)} for {@link CustomerSort#CHANGES}
+     * @param limit the maximum number of customers to return
+     * @return a list of at most {@code limit} customers changed after the position
+     */
+    List<Customer> getChanges(long[] after, int limit);
+
+    /**
+     * Searches customers by a part of their full name, email or phone.
+     * Names also match by word prefixes in any order. Customers whose email starts with the query
+     * come first, the rest is ranked by trigram similarity to the query.
+     * Each kind of match is looked up through its own index and capped at
+     * {@link tech.theraven.customers_api.constants.PaginationConstants#MAX_SEARCH_RESULTS} customers,
+     * so the cost of ranking is bounded however many customers a short query matches.
+     * Results beyond that cap are not reachable.
+     *
+     * @param query  the text to search for
+     * @param limit  the maximum number of customers to return
+     * @param offset the number of matching customers to skip, below the cap
+     * @return a list of at most {@code limit} matching customers, best matches first
+     */
+    List<Customer> search(String query, int limit, long offset);
+
+    /**
+     * Performs the given action for every customer, ordered by ID.
+     * Customers are read through a forward-only database cursor and detached
+     * once processed, so memory use does not grow with the number of customers.
+     *
+     * @param action the action to perform for each customer
+     */
+    void forEachCustomer(Consumer<Customer> action);
+
+    /**
+     * Updates an existing customer with a single statement, without loading it first.
      *
      * @param id       the ID of the customer to update
      * @param customer the customer data to update
@@ -46,7 +158,22 @@ public interface CustomerService {
     Customer update(Long id, Customer customer) throws EntityNotFoundException;
 
     /**
-     * Deactivates a customer by their ID.
+     * Updates an existing customer if it still has the expected version.
+     * The check and the update are a single conditional statement,
+     * so concurrent updates cannot silently overwrite each other.
+     *
+     * @param id              the ID of the customer to update
+     * @param customer        the customer data to update
+     * @param expectedVersion the version the customer must have
+     * @return the updated customer
+     * @throws EntityNotFoundException     if no customer with the specified ID is found
+     * @throws PreconditionFailedException if the customer has a different version
+     */
+    Customer update(Long id, Customer customer, long expectedVersion)
+            throws EntityNotFoundException, PreconditionFailedException;
+
+    /**
+     * Deactivates a customer by their ID with a single statement, without loading it first.
      * If the customer is already inactive, a FieldUnchangedException is thrown.
      *
      * @param id the ID of the customer to deactivate
@@ -54,4 +181,17 @@ public interface CustomerService {
      * @throws FieldUnchangedException if the customer is already inactive
      */
     void deactivate(Long id) throws EntityNotFoundException, FieldUnchangedException;
+
+    /**
+     * Deactivates customers by their IDs with set-based updates.
+     * IDs are processed in chunks, each in its own transaction, so a large request
+     * neither holds row locks for long nor keeps one huge transaction open.
+     * The cached customers of each chunk are evicted as soon as the chunk is committed.
+     *
+     * @param ids the IDs of the customers to deactivate
+     * @return the numbers of deactivated, already inactive and missing customers
+     * @throws EntityNotFoundException if none of the customers exist
+     * @throws FieldUnchangedException if none of the existing customers were active
+     */
+    DeactivationSummary deactivateAll(Collection<Long> ids) throws EntityNotFoundException, FieldUnchangedException;
 }
@@ -0,0 +1,77 @@
+package tech.theraven.customers_api.service;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tech.theraven.customers_api.exceptions.custom.EntityAlreadyExistsException;
+import tech.theraven.customers_api.exceptions.custom.EntityNotFoundException;
+import tech.theraven.customers_api.exceptions.custom.FieldUnchangedException;
+import tech.theraven.customers_api.exceptions.custom.PreconditionFailedException;
+import tech.theraven.customers_api.model.CustomerRecord;
+
+/**
+ * Non-blocking counterpart of {@link CustomerService} with the same semantics.
+ * Failures are signalled as errors of the returned publishers.
+ */
+public interface ReactiveCustomerService {
+
+    /**
+     * Creates a new customer.
+     *
+     * @param customer Customer to create.
+     * @return The created customer, or {@link EntityAlreadyExistsException} if the email is taken.
+     */
+    Mono<CustomerRecord> create(CustomerRecord customer);
+
+    /**
+     * Retrieves a customer by its ID.
+     *
+     * @param id ID of the customer to retrieve.
+     * @return The customer, or {@link EntityNotFoundException} if there is no customer with the ID.
+     */
+    Mono<CustomerRecord> getById(Long id);
+
+    /**
+     * Retrieves a page of customers ordered by ID.
+     *
+     * @param afterId ID after which the page starts, 0 for the first page.
+     * @param limit   Maximum number of customers in the page.
+     * @return Customers of the page.
+     */
+    Flux<CustomerRecord> getCustomers(Long afterId, int limit);
+
+    /**
+     * Streams all customers ordered by ID. Rows are fetched from the database as the subscriber requests them.
+     *
+     * @return All customers.
+     */
+    Flux<CustomerRecord> getAllCustomers();
+
+    /**
+     * Updates the full name and phone of a customer.
+     *
+     * @param id       ID of the customer to update.
+     * @param customer Customer holding the new values.
+     * @return The updated customer, or {@link EntityNotFoundException} if there is no customer with the ID.
+     */
+    Mono<CustomerRecord> update(Long id, CustomerRecord customer);
+
+    /**
+     * Updates the full name and phone of a customer if it still has the expected version.
+     *
+     * @param id              ID of the customer to update.
+     * @param customer        Customer holding the new values.
+     * @param expectedVersion Version the customer must have.
+     * @return The updated customer, {@link PreconditionFailedException} if the version does not match,
+     * or {@link EntityNotFoundException} if there is no customer with the ID.
+     */
+    Mono<CustomerRecord> update(Long id, CustomerRecord customer, long expectedVersion);
+
+    /**
+     * Deactivates a customer.
+     *
+     * @param id ID of the customer to deactivate.
+     * @return Completion, {@link FieldUnchangedException} if the customer is already inactive,
+     * or {@link EntityNotFoundException} if there is no customer with the ID.
+     */
+    Mono<Void> deactivate(Long id);
+}
@@ -1,67 +1,357 @@
 package tech.theraven.customers_api.service.impl;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.theraven.customers_api.cache.SingleFlight;
+import tech.theraven.customers_api.config.CustomerChangesProperties;
 import tech.theraven.customers_api.exceptions.custom.EntityAlreadyExistsException;
 import tech.theraven.customers_api.exceptions.custom.EntityNotFoundException;
 import tech.theraven.customers_api.exceptions.custom.FieldUnchangedException;
+import tech.theraven.customers_api.exceptions.custom.PreconditionFailedException;
 import tech.theraven.customers_api.model.Customer;
+import tech.theraven.customers_api.model.CustomerEvent;
+import tech.theraven.customers_api.model.dto.BatchItemResult;
+import tech.theraven.customers_api.model.dto.CustomerField;
+import tech.theraven.customers_api.model.dto.CustomerFilter;
+import tech.theraven.customers_api.model.dto.CustomerSort;
+import tech.theraven.customers_api.model.dto.DeactivationSummary;
+import tech.theraven.customers_api.model.dto.LookupResult;
+import tech.theraven.customers_api.repository.CustomerEventRepository;
 import tech.theraven.customers_api.repository.CustomerRepository;
+import tech.theraven.customers_api.repository.CustomerSpecifications;
 import tech.theraven.customers_api.service.CustomerService;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static tech.theraven.customers_api.constants.CacheConstants.CUSTOMERS_CACHE;
+import static tech.theraven.customers_api.constants.DatabaseConstants.DEACTIVATION_CHUNK_SIZE;
+import static tech.theraven.customers_api.constants.MetricsConstants.SERVICE_METRIC;
+import static tech.theraven.customers_api.constants.PaginationConstants.MAX_SEARCH_RESULTS;
+import static tech.theraven.customers_api.util.ConstraintViolations.isEmailUniqueViolation;
 
 /**
  * Implementation of the service for managing customer-related operations.
  */
 @Service
+@Timed(SERVICE_METRIC)
 @RequiredArgsConstructor
 public class CustomerServiceImpl implements CustomerService {
 
+    private static final Pattern LIKE_WILDCARDS = Pattern.compile("[\\\\%_]");
+    private static final Pattern NON_WORD_CHARACTERS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
     private final CustomerRepository customerRepository;
+    private final CustomerEventRepository customerEventRepository;
+    private final EntityManager entityManager;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final CustomerChangesProperties changesProperties;
+    private final SingleFlight<Long, Customer> customerLookups;
 
     @Override
     @Transactional
+    @CachePut(cacheNames = CUSTOMERS_CACHE, key = "#result.id")
     public Customer create(Customer customer) {
-        var customerEmail = customer.getEmail();
-        if (customerRepository.existsByEmail(customerEmail)) {
-            throw new EntityAlreadyExistsException(Customer.class.getSimpleName(), "Email: " + customerEmail);
+        Customer createdCustomer;
+        try {
+            createdCustomer = customerRepository.saveAndFlush(customer);
+        } catch (DataIntegrityViolationException ex) {
+            if (isEmailUniqueViolation(ex)) {
+                throw new EntityAlreadyExistsException(Customer.class.getSimpleName(), "Email: " + customer.getEmail());
+            }
+            throw ex;
         }
+        recordEvents(CustomerEvent.Type.CREATED, List.of(createdCustomer.getId()));
+        return createdCustomer;
+    }
 
-        return customerRepository.save(customer);
+    @Override
+    public List<BatchItemResult<Customer>> createAll(List<Customer> customers) {
+        try {
+            return transactionTemplate.execute(status -> insertAll(customers));
+        } catch (DataIntegrityViolationException ex) {
+            if (!isEmailUniqueViolation(ex)) {
+                throw ex;
+            }
+            // A concurrent request took one of the emails after the check, the retry reports it as a failed item
+            customers.forEach(customer -> {
+                customer.setId(null);
+                customer.setVersion(null);
+            });
+            return transactionTemplate.execute(status -> insertAll(customers));
+        }
+    }
+
+    /**
+     * Inserts the customers whose email is not taken yet, within the current transaction.
+     *
+     * @param customers the customers to create
+     * @return the outcome for each customer, in the order of the given list
+     */
+    private List<BatchItemResult<Customer>> insertAll(List<Customer> customers) {
+        var emails = customers.stream()
+                .map(Customer::getEmail)
+                .toList();
+        var takenEmails = new HashSet<>(customerRepository.findExistingEmails(emails));
+
+        var results = new ArrayList<BatchItemResult<Customer>>(customers.size());
+        var customersToSave = new ArrayList<Customer>(customers.size());
+        for (int i = 0; i < customers.size(); i++) {
+            var customer = customers.get(i);
+            var customerEmail = customer.getEmail();
+            if (takenEmails.add(customerEmail)) {
+                customersToSave.add(customer);
+                results.add(BatchItemResult.succeeded(i, customer));
+            } else {
+                var ex = new EntityAlreadyExistsException(Customer.class.getSimpleName(), "Email: " + customerEmail);
+                results.add(BatchItemResult.failed(i, ex.getMessage()));
+            }
+        }
+
+        customerRepository.saveAll(customersToSave);
+        if (!customersToSave.isEmpty()) {
+            recordEvents(CustomerEvent.Type.CREATED, customersToSave.stream().map(Customer::getId).toList());
+        }
+        return results;
     }
 
     @Override
     public Customer getById(Long id) {
-        return customerRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException(Customer.class.getSimpleName(), "Id: " + id));
+        var customersCache = cacheManager.getCache(CUSTOMERS_CACHE);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            var cachedCustomer = customersCache.get(id, Customer.class);
+            return cachedCustomer != null ? cachedCustomer : findById(id);
+        }
+        try {
+            // The cache fills the entry only if no update or deactivation evicted it since the load started
+            return customersCache.get(id, () -> customerLookups.execute(id, () -> findById(id)));
+        } catch (Cache.ValueRetrievalException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
     }
 
     @Override
-    public List<Customer> getAllCustomers() {
-        return customerRepository.findAll();
+    @Transactional(readOnly = true)
+    public LookupResult<Customer> getAllById(Collection<Long> ids) {
+        var distinctIds = new LinkedHashSet<>(ids);
+        var customersById = customerRepository.findAllByIdArray(distinctIds.toArray(Long[]::new))
+                .stream()
+                .collect(Collectors.toMap(Customer::getId, Function.identity()));
+
+        var found = new ArrayList<Customer>(customersById.size());
+        var missingIds = new ArrayList<Long>();
+        for (var id : distinctIds) {
+            var customer = customersById.get(id);
+            if (customer != null) {
+                found.add(customer);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new LookupResult<>(found, missingIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Customer> getCustomers(Long afterId, int limit) {
+        return customerRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Customer> getCustomers(CustomerFilter filter, CustomerSort sort, long[] after, int limit) {
+        return customerRepository.findBy(listing(filter, sort, after),
+                query -> query.sortBy(sort.toSort()).limit(limit).all());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Tuple> getCustomerFields(Set<CustomerField> fields, CustomerFilter filter, CustomerSort sort, long[] after, int limit) {
+        var attributes = new LinkedHashSet<String>();
+        fields.forEach(field -> attributes.add(field.getAttribute()));
+        attributes.addAll(sort.keyAttributes());
+        return customerRepository.findAttributes(listing(filter, sort, after), attributes, sort.toSort(), limit);
     }
 
     @Override
     @Transactional
-    public Customer update(Long id, Customer customer) {
-        var customerToUpdate = getById(id);
+    public List<Customer> getChanges(long[] after, int limit) {
+        // Read-write, so that the feed is read from the primary: a lagging replica could hide settled changes
+        var settledBefore = Instant.now().minus(changesProperties.safetyLag());
+        var settled = new CustomerFilter(null, null, null, null, settledBefore, null);
+        return getCustomers(settled, CustomerSort.CHANGES, after, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Customer> search(String query, int limit, long offset) {
+        var term = query.trim().toLowerCase(Locale.ROOT);
+        var escapedTerm = LIKE_WILDCARDS.matcher(term).replaceAll("\\\\$0");
+        var wordPrefixes = Arrays.stream(NON_WORD_CHARACTERS.split(term))
+                .filter(word -> !word.isEmpty())
+                .map(word -> word + ":*")
+                .collect(Collectors.joining(" & "));
+        return customerRepository.search(term, "%" + escapedTerm + "%", escapedTerm + "%", wordPrefixes,
+                MAX_SEARCH_RESULTS, limit, offset);
+    }
 
-        customerToUpdate.setFullName(customer.getFullName());
-        customerToUpdate.setPhone(customer.getPhone());
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachCustomer(Consumer<Customer> action) {
+        try (var customers = customerRepository.streamAll()) {
+            customers.forEach(customer -> {
+                action.accept(customer);
+                entityManager.detach(customer);
+            });
+        }
+    }
 
-        return customerToUpdate;
+    @Override
+    @Transactional
+    @CachePut(cacheNames = CUSTOMERS_CACHE, key = "#id")
+    public Customer update(Long id, Customer customer) {
+        var updated = Instant.now().getEpochSecond();
+        flushAndClear();
+        var updatedCustomer = customerRepository.updateById(id, customer.getFullName(), customer.getPhone(), updated)
+                .orElseThrow(() -> new EntityNotFoundException(Customer.class.getSimpleName(), "Id: " + id));
+        recordEvents(CustomerEvent.Type.UPDATED, List.of(id));
+        return updatedCustomer;
     }
 
     @Override
     @Transactional
+    @CachePut(cacheNames = CUSTOMERS_CACHE, key = "#id")
+    public Customer update(Long id, Customer customer, long expectedVersion) {
+        var updated = Instant.now().getEpochSecond();
+        flushAndClear();
+        var updatedCustomer = customerRepository.updateByIdAndVersion(id, expectedVersion, customer.getFullName(), customer.getPhone(), updated)
+                .orElseThrow(() -> customerRepository.existsById(id)
+                        ? new PreconditionFailedException(Customer.class.getSimpleName(), "Version: " + expectedVersion)
+                        : new EntityNotFoundException(Customer.class.getSimpleName(), "Id: " + id));
+        recordEvents(CustomerEvent.Type.UPDATED, List.of(id));
+        return updatedCustomer;
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CUSTOMERS_CACHE, key = "#id")
     public void deactivate(Long id) {
-        var customerToDelete = getById(id);
-        if (customerToDelete.getIsActive()) {
-            customerToDelete.setIsActive(false);
-        } else {
-            throw new FieldUnchangedException("Customer is already inactive.");
+        var updated = Instant.now().getEpochSecond();
+        flushAndClear();
+        if (customerRepository.deactivateAllById(List.of(id), CustomerEvent.Type.DEACTIVATED.name(), updated) == 0) {
+            throw customerRepository.existsById(id)
+                    ? new FieldUnchangedException("Customer is already inactive.")
+                    : new EntityNotFoundException(Customer.class.getSimpleName(), "Id: " + id);
         }
     }
+
+    @Override
+    public DeactivationSummary deactivateAll(Collection<Long> ids) {
+        var distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        var customersCache = cacheManager.getCache(CUSTOMERS_CACHE);
+        var found = 0;
+        var deactivated = 0;
+
+        for (int from = 0; from < distinctIds.size(); from += DEACTIVATION_CHUNK_SIZE) {
+            var chunk = distinctIds.subList(from, Math.min(from + DEACTIVATION_CHUNK_SIZE, distinctIds.size()));
+            var chunkOutcome = transactionTemplate.execute(status -> {
+                // Taken per chunk, so that each chunk commits within the changes feed safety lag of its timestamp
+                var updated = Instant.now().getEpochSecond();
+                var chunkFound = (int) customerRepository.countByIdIn(chunk);
+                flushAndClear();
+                var chunkDeactivated = (int) customerRepository.deactivateAllById(chunk, CustomerEvent.Type.DEACTIVATED.name(), updated);
+                return new int[]{chunkFound, chunkDeactivated};
+            });
+            // Evicted as soon as the chunk is committed, so a failure of a later chunk leaves no stale entries
+            chunk.forEach(customersCache::evict);
+            found += chunkOutcome[0];
+            deactivated += chunkOutcome[1];
+        }
+
+        if (found == 0) {
+            throw new EntityNotFoundException(Customer.class.getSimpleName(), "Ids: " + distinctIds);
+        }
+        if (deactivated == 0) {
+            throw new FieldUnchangedException("Customers are already inactive.");
+        }
+        return new DeactivationSummary(deactivated, found - deactivated, distinctIds.size() - found);
+    }
+
+    /**
+     * Loads a customer from the database.
+     * Outside of a transaction, concurrent cache misses for the same customer share one call of this method
+     * and fill the cache with its result; within a transaction the customer is always loaded by the calling
+     * transaction and not cached, as it may see uncommitted changes. The lookup runs in a read-write
+     * transaction so that it is served by the primary: the repository's own read-only transaction
+     * would be routed to a replica, which could put a stale customer in the cache.
+     *
+     * @param id the ID of the customer to load
+     * @return the customer with the specified ID
+     * @throws EntityNotFoundException if no customer with the specified ID is found
+     */
+    private Customer findById(Long id) {
+        return transactionTemplate.execute(status -> customerRepository.findById(id))
+                .orElseThrow(() -> new EntityNotFoundException(Customer.class.getSimpleName(), "Id: " + id));
+    }
+
+    /**
+     * Builds the specification of a customer listing page.
+     *
+     * @param filter the criteria the customers must meet
+     * @param sort   the order of the listing
+     * @param after  the keyset position after which the page starts, or null for the first page
+     * @return the specification
+     */
+    private static Specification<Customer> listing(CustomerFilter filter, CustomerSort sort, long[] after) {
+        var specification = CustomerSpecifications.matching(filter);
+        return after != null ? specification.and(CustomerSpecifications.after(sort, after)) : specification;
+    }
+
+    /**
+     * Writes the pending changes and empties the persistence context before a native {@code UPDATE}.
+     * Otherwise the statement could overwrite unflushed changes, and a customer that is already managed would be
+     * returned or read afterwards as it was before the update.
+     */
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Records an event of the given type for each of the customers in the outbox, within the current transaction.
+     *
+     * @param type the type of the events
+     * @param ids  the IDs of the changed customers
+     */
+    private void recordEvents(CustomerEvent.Type type, Collection<Long> ids) {
+        customerEventRepository.appendAll(ids, type.name(), Instant.now().getEpochSecond());
+    }
 }
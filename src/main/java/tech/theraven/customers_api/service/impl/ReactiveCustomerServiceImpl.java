@@ -0,0 +1,92 @@
+package tech.theraven.customers_api.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tech.theraven.customers_api.exceptions.custom.EntityAlreadyExistsException;
+import tech.theraven.customers_api.exceptions.custom.EntityNotFoundException;
+import tech.theraven.customers_api.exceptions.custom.FieldUnchangedException;
+import tech.theraven.customers_api.exceptions.custom.PreconditionFailedException;
+import tech.theraven.customers_api.model.Customer;
+import tech.theraven.customers_api.model.CustomerEvent;
+import tech.theraven.customers_api.model.CustomerRecord;
+import tech.theraven.customers_api.repository.CustomerRecordRepository;
+import tech.theraven.customers_api.service.ReactiveCustomerService;
+
+import java.time.Instant;
+
+import static tech.theraven.customers_api.util.ConstraintViolations.isEmailUniqueViolation;
+
+
+/**
+ * Implementation of the reactive service for managing customer-related operations.
+ * Every operation is a single statement, which also records the outbox event of the change,
+ * so no transaction has to be held across the pipeline.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveCustomerServiceImpl implements ReactiveCustomerService {
+
+    private final CustomerRecordRepository customerRecordRepository;
+
+    @Override
+    public Mono<CustomerRecord> create(CustomerRecord customer) {
+        var now = Instant.now().getEpochSecond();
+        return customerRecordRepository.insert(customer.getFullName(), customer.getEmail(), customer.getPhone(),
+                        now, CustomerEvent.Type.CREATED.name())
+                .onErrorMap(DataIntegrityViolationException.class,
+                        ex -> isEmailUniqueViolation(ex)
+                                ? new EntityAlreadyExistsException(Customer.class.getSimpleName(), "Email: " + customer.getEmail())
+                                : ex);
+    }
+
+    @Override
+    public Mono<CustomerRecord> getById(Long id) {
+        return customerRecordRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(Customer.class.getSimpleName(), "Id: " + id)));
+    }
+
+    @Override
+    public Flux<CustomerRecord> getCustomers(Long afterId, int limit) {
+        return customerRecordRepository.findPage(afterId, limit);
+    }
+
+    @Override
+    public Flux<CustomerRecord> getAllCustomers() {
+        return customerRecordRepository.findAllByOrderByIdAsc();
+    }
+
+    @Override
+    public Mono<CustomerRecord> update(Long id, CustomerRecord customer) {
+        var updated = Instant.now().getEpochSecond();
+        return customerRecordRepository.updateById(id, customer.getFullName(), customer.getPhone(), updated,
+                        CustomerEvent.Type.UPDATED.name())
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(Customer.class.getSimpleName(), "Id: " + id)));
+    }
+
+    @Override
+    public Mono<CustomerRecord> update(Long id, CustomerRecord customer, long expectedVersion) {
+        var updated = Instant.now().getEpochSecond();
+        return customerRecordRepository.updateByIdAndVersion(id, expectedVersion, customer.getFullName(), customer.getPhone(),
+                        updated, CustomerEvent.Type.UPDATED.name())
+                .switchIfEmpty(customerRecordRepository.existsById(id)
+                        .flatMap(exists -> Mono.<CustomerRecord>error(exists
+                                ? new PreconditionFailedException(Customer.class.getSimpleName(), "Version: " + expectedVersion)
+                                : new EntityNotFoundException(Customer.class.getSimpleName(), "Id: " + id))));
+    }
+
+    @Override
+    public Mono<Void> deactivate(Long id) {
+        var updated = Instant.now().getEpochSecond();
+        return customerRecordRepository.deactivateById(id, updated, CustomerEvent.Type.DEACTIVATED.name())
+                .filter(deactivated -> deactivated == 0)
+                .flatMap(deactivated -> customerRecordRepository.existsById(id))
+                .flatMap(exists -> Mono.<Void>error(exists
+                        ? new FieldUnchangedException("Customer is already inactive.")
+                        : new EntityNotFoundException(Customer.class.getSimpleName(), "Id: " + id)));
+    }
+}
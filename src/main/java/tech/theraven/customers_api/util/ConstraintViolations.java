@@ -0,0 +1,41 @@
+package tech.theraven.customers_api.util;
+
+import io.r2dbc.postgresql.api.PostgresqlException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static tech.theraven.customers_api.constants.DatabaseConstants.CUSTOMERS_EMAIL_UNIQUE_CONSTRAINT;
+
+/**
+ * Recognizes violated database constraints from the constraint name reported by the database,
+ * whether the statement ran through Hibernate or through R2DBC.
+ */
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    /**
+     * Checks whether the given exception was caused by the unique constraint on customer emails.
+     *
+     * @param ex the exception thrown while writing a customer
+     * @return true if the email unique constraint was violated
+     */
+    public static boolean isEmailUniqueViolation(DataIntegrityViolationException ex) {
+        return CUSTOMERS_EMAIL_UNIQUE_CONSTRAINT.equalsIgnoreCase(constraintName(ex));
+    }
+
+    private static String constraintName(Throwable ex) {
+        Throwable cause = ex;
+        while (cause != null) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getConstraintName();
+            }
+            if (cause instanceof PostgresqlException postgresqlException) {
+                return postgresqlException.getErrorDetails().getConstraintName().orElse(null);
+            }
+            cause = cause.getCause();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,57 @@
+package tech.theraven.customers_api.util;
+
+import tech.theraven.customers_api.exceptions.custom.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+/**
+ * Encodes and decodes opaque pagination cursors.
+ * A cursor is a URL-safe Base64 string wrapping one or more numeric keys,
+ * so clients can pass it back without knowing how the page boundary is built.
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = ":";
+
+    private CursorCodec() {
+    }
+
+    /**
+     * Encodes the given keys into an opaque cursor.
+     *
+     * @param keys the keys identifying the last element of a page
+     * @return the encoded cursor
+     */
+    public static String encode(long... keys) {
+        var raw = Arrays.stream(keys)
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining(SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode(long...)}.
+     *
+     * @param cursor       the cursor received from the client
+     * @param expectedKeys the number of keys the cursor must contain
+     * @return the decoded keys
+     * @throws InvalidCursorException if the cursor is malformed
+     */
+    public static long[] decode(String cursor, int expectedKeys) throws InvalidCursorException {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var parts = raw.split(SEPARATOR);
+            if (parts.length != expectedKeys) {
+                throw new InvalidCursorException(cursor);
+            }
+            return Arrays.stream(parts)
+                    .mapToLong(Long::parseLong)
+                    .toArray();
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package tech.theraven.customers_api.util;
+
+import tech.theraven.customers_api.exceptions.custom.PreconditionFailedException;
+import tech.theraven.customers_api.model.Customer;
+import tech.theraven.customers_api.model.dto.CustomerField;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Builds and parses entity tags identifying a particular version of a customer.
+ */
+public final class CustomerETag {
+
+    private static final String SEPARATOR = "-";
+    private static final String FIELD_SEPARATOR = ".";
+    private static final String QUOTE = "\"";
+
+    private CustomerETag() {
+    }
+
+    /**
+     * Builds the entity tag of the given customer from its ID and version.
+     *
+     * @param customer the customer to build the entity tag for
+     * @return the unquoted entity tag
+     */
+    public static String of(Customer customer) {
+        return of(customer.getId(), customer.getVersion());
+    }
+
+    /**
+     * Builds the entity tag of a sparse representation of the given customer.
+     * The selected fields are part of the tag, so that each fieldset is validated separately
+     * and never matches the tag of the full representation.
+     *
+     * @param customer the customer to build the entity tag for
+     * @param fields   the fields included in the representation
+     * @return the unquoted entity tag
+     */
+    public static String of(Customer customer, Set<CustomerField> fields) {
+        return of(customer) + fields.stream()
+                .sorted()
+                .map(field -> FIELD_SEPARATOR + field.getAttribute())
+                .collect(Collectors.joining());
+    }
+
+    /**
+     * Builds the entity tag of a customer from its ID and version.
+     *
+     * @param id      the ID of the customer
+     * @param version the version of the customer, null for a customer that was never versioned
+     * @return the unquoted entity tag
+     */
+    public static String of(Long id, Long version) {
+        return id + SEPARATOR + (version != null ? version : 0);
+    }
+
+    /**
+     * Extracts the expected customer version from an If-Match header value.
+     * Only a single strong entity tag of the given customer is accepted,
+     * as a conditional update can only check one version.
+     *
+     * @param id      the ID of the customer being updated
+     * @param ifMatch the value of the If-Match header
+     * @return the version the customer is expected to have
+     * @throws PreconditionFailedException if the value is not a strong entity tag of the customer
+     */
+    public static long parseVersion(Long id, String ifMatch) throws PreconditionFailedException {
+        var etag = ifMatch.trim();
+        var prefix = QUOTE + id + SEPARATOR;
+        if (!etag.startsWith(prefix) || !etag.endsWith(QUOTE) || etag.length() <= prefix.length() + 1) {
+            throw new PreconditionFailedException(Customer.class.getSimpleName(), "If-Match: " + ifMatch);
+        }
+        try {
+            return Long.parseLong(etag.substring(prefix.length(), etag.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw new PreconditionFailedException(Customer.class.getSimpleName(), "If-Match: " + ifMatch);
+        }
+    }
+}
@@ -0,0 +1 @@
+ALTER SEQUENCE customers_id_seq INCREMENT BY 50;
@@ -0,0 +1,2 @@
+ALTER TABLE customers
+    ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
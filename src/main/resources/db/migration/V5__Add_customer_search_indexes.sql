@@ -0,0 +1,15 @@
+-- Built concurrently, so writes are not blocked while the indexes are built on a large table.
+-- Flyway runs this migration outside of a transaction; a failed build leaves an INVALID index to drop before retrying.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Substring and similarity matching on name, email and phone
+CREATE INDEX CONCURRENTLY customers_full_name_trgm_idx ON customers USING gin (full_name gin_trgm_ops);
+CREATE INDEX CONCURRENTLY customers_lower_email_trgm_idx ON customers USING gin (lower(email) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY customers_phone_trgm_idx ON customers USING gin (phone gin_trgm_ops);
+
+-- Email prefix matching and case-insensitive lookups
+CREATE INDEX CONCURRENTLY customers_lower_email_idx ON customers (lower(email) text_pattern_ops);
+
+-- Word prefix matching on names, in any word order
+CREATE INDEX CONCURRENTLY customers_full_name_tsv_idx ON customers USING gin (to_tsvector('simple', full_name));
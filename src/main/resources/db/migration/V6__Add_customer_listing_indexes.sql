@@ -0,0 +1,11 @@
+-- Built concurrently, so writes are not blocked while the indexes are built on a large table.
+-- Flyway runs this migration outside of a transaction; a failed build leaves an INVALID index to drop before retrying.
+
+-- Listing ordered by creation or last update time, with the ID as tiebreaker of the keyset
+CREATE INDEX CONCURRENTLY customers_created_id_idx ON customers (created, id);
+CREATE INDEX CONCURRENTLY customers_updated_id_idx ON customers (updated, id);
+
+-- Listing of active customers only
+CREATE INDEX CONCURRENTLY customers_active_id_idx ON customers (id) WHERE is_active;
+CREATE INDEX CONCURRENTLY customers_active_created_id_idx ON customers (created, id) WHERE is_active;
+CREATE INDEX CONCURRENTLY customers_active_updated_id_idx ON customers (updated, id) WHERE is_active;
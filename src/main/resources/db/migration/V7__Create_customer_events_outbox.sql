@@ -0,0 +1,11 @@
+-- Transactional outbox of customer events, written in the same transaction as the change and removed once relayed.
+-- Events are relayed in ID order, changes of one customer are serialized by its row lock, so their IDs follow the change order.
+CREATE TABLE customer_events
+(
+    id          BIGSERIAL,
+    customer_id BIGINT      NOT NULL,
+    type        VARCHAR(32) NOT NULL,
+    payload     JSONB       NOT NULL,
+    created     BIGINT      NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,163 @@
+package tech.theraven.customers_api.batch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import tech.theraven.customers_api.exceptions.custom.EntityAlreadyExistsException;
+import tech.theraven.customers_api.exceptions.custom.ServiceUnavailableException;
+import tech.theraven.customers_api.model.Customer;
+import tech.theraven.customers_api.model.dto.BatchItemResult;
+import tech.theraven.customers_api.service.CustomerService;
+import tech.theraven.customers_api.testutils.FakeDataGenerator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static tech.theraven.customers_api.constants.MetricsConstants.CREATE_BATCH_FALLBACKS_METRIC;
+import static tech.theraven.customers_api.constants.MetricsConstants.CREATE_BATCH_SIZE_METRIC;
+
+@DisplayName("Testing CustomerCreateBatcher")
+class CustomerCreateBatcherTest {
+
+    private static final int CALLERS = 8;
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CustomerService customerService = mock(CustomerService.class);
+    private final AtomicLong ids = new AtomicLong();
+    private CustomerCreateBatcher batcher;
+
+    @SneakyThrows
+    @AfterEach
+    void tearDown() {
+        batcher.close();
+    }
+
+    @SneakyThrows
+    @DisplayName("Concurrent creations should be written in one batch")
+    @Test
+    void create_WhenCalledConcurrently_ShouldWriteOneBatch() {
+        // Prepare
+        // A long delay so that the batch is written only once every caller has joined it
+        batcher = new CustomerCreateBatcher(customerService, CALLERS, Duration.ofSeconds(5), TIMEOUT, meterRegistry);
+        when(customerService.createAll(anyList())).thenAnswer(invocation -> {
+            List<Customer> customers = invocation.getArgument(0);
+            return IntStream.range(0, customers.size())
+                    .mapToObj(i -> BatchItemResult.succeeded(i, withId(customers.get(i))))
+                    .toList();
+        });
+        var results = new ArrayList<CompletableFuture<Customer>>();
+
+        // Act
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                var customer = FakeDataGenerator.customerBuilder().build();
+                results.add(CompletableFuture.supplyAsync(() -> batcher.create(customer), executor));
+            }
+        }
+
+        // Assert
+        results.forEach(result -> assertNotNull(result.join().getId()));
+        assertEquals(CALLERS, results.stream().map(result -> result.join().getId()).distinct().count());
+
+        // Verify
+        verify(customerService, times(1)).createAll(anyList());
+        verify(customerService, never()).create(any());
+        assertEquals(1, meterRegistry.get(CREATE_BATCH_SIZE_METRIC).summary().count());
+        assertEquals(CALLERS, meterRegistry.get(CREATE_BATCH_SIZE_METRIC).summary().totalAmount());
+    }
+
+    @SneakyThrows
+    @DisplayName("A creation with a taken email should fail with EntityAlreadyExistsException")
+    @Test
+    void create_WhenEmailIsTaken_ShouldThrowEntityAlreadyExistsException() {
+        // Prepare
+        batcher = new CustomerCreateBatcher(customerService, CALLERS, Duration.ofMillis(10), TIMEOUT, meterRegistry);
+        when(customerService.createAll(anyList()))
+                .thenReturn(List.of(BatchItemResult.failed(0, "Customer already exists")));
+        var customer = FakeDataGenerator.customerBuilder().build();
+
+        // Act & Assert
+        var exception = assertThrows(EntityAlreadyExistsException.class, () -> batcher.create(customer));
+        assertTrue(exception.getMessage().contains(customer.getEmail()));
+    }
+
+    @SneakyThrows
+    @DisplayName("A batch rejected by a unique violation should be created one by one")
+    @Test
+    void create_WhenBatchViolatesUniqueness_ShouldCreateIndividually() {
+        // Prepare
+        batcher = new CustomerCreateBatcher(customerService, CALLERS, Duration.ofMillis(10), TIMEOUT, meterRegistry);
+        when(customerService.createAll(anyList())).thenThrow(new DataIntegrityViolationException("Duplicate email"));
+        when(customerService.create(any())).thenAnswer(invocation -> withId(invocation.getArgument(0)));
+        var customer = FakeDataGenerator.customerBuilder().build();
+
+        // Act
+        var created = batcher.create(customer);
+
+        // Assert
+        assertNotNull(created.getId());
+
+        // Verify
+        verify(customerService, times(1)).create(customer);
+        assertEquals(1, meterRegistry.get(CREATE_BATCH_FALLBACKS_METRIC).counter().count());
+    }
+
+    @SneakyThrows
+    @DisplayName("A worker stopped by an error should fail the waiting and the following creations")
+    @Test
+    void create_WhenWorkerFails_ShouldFailCreations() {
+        // Prepare
+        batcher = new CustomerCreateBatcher(customerService, CALLERS, Duration.ofMillis(10), TIMEOUT, meterRegistry);
+        when(customerService.createAll(anyList())).thenThrow(new StackOverflowError("Worker failure"));
+        var customer = FakeDataGenerator.customerBuilder().build();
+        var nextCustomer = FakeDataGenerator.customerBuilder().build();
+
+        // Act & Assert
+        assertThrows(StackOverflowError.class, () -> batcher.create(customer));
+        assertThrows(IllegalStateException.class, () -> batcher.create(nextCustomer));
+
+        // Verify
+        verify(customerService, times(1)).createAll(anyList());
+    }
+
+    @SneakyThrows
+    @DisplayName("A creation whose batch is not written in time should fail with ServiceUnavailableException")
+    @Test
+    void create_WhenBatchIsNotWrittenInTime_ShouldThrowServiceUnavailableException() {
+        // Prepare
+        batcher = new CustomerCreateBatcher(customerService, CALLERS, Duration.ofMillis(10), Duration.ofMillis(100),
+                meterRegistry);
+        var release = new CountDownLatch(1);
+        when(customerService.createAll(anyList())).thenAnswer(invocation -> {
+            release.await();
+            return List.of(BatchItemResult.succeeded(0, withId(invocation.<List<Customer>>getArgument(0).getFirst())));
+        });
+        var customer = FakeDataGenerator.customerBuilder().build();
+
+        // Act & Assert
+        try {
+            assertThrows(ServiceUnavailableException.class, () -> batcher.create(customer));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private Customer withId(Customer customer) {
+        customer.setId(ids.incrementAndGet());
+        return customer;
+    }
+}
@@ -0,0 +1,176 @@
+package tech.theraven.customers_api.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import tech.theraven.customers_api.model.Customer;
+import tech.theraven.customers_api.service.CustomerService;
+import tech.theraven.customers_api.testutils.FakeDataGenerator;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.NONE;
+import static tech.theraven.customers_api.constants.CacheConstants.CUSTOMERS_CACHE;
+
+/**
+ * Not transactional, as the customers cache is only written once the writing transaction commits.
+ * The customers created by each test are deleted afterwards.
+ */
+@ActiveProfiles("integration")
+@SpringBootTest(webEnvironment = NONE, properties = "customers.cache.maximum-size=" + CustomerCacheTest.MAXIMUM_SIZE)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Testing the customers cache")
+class CustomerCacheTest {
+
+    static final int MAXIMUM_SIZE = 3;
+    private static final long SEEDED_CUSTOMERS = 10;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        customersCache().clear();
+        jdbcTemplate.update("DELETE FROM customer_events");
+        jdbcTemplate.update("DELETE FROM customers WHERE id > ?", SEEDED_CUSTOMERS);
+    }
+
+    @DisplayName("A second getById should be served from the cache")
+    @Test
+    void getById_WhenCalledTwice_ShouldHitCache() {
+        // Prepare
+        var customerId = 1L;
+        var hits = cacheGets("hit");
+        var misses = cacheGets("miss");
+
+        // Act
+        var loadedCustomer = customerService.getById(customerId);
+        var cachedCustomer = customerService.getById(customerId);
+
+        // Assert
+        assertEquals(loadedCustomer.getEmail(), cachedCustomer.getEmail());
+        assertNotNull(customersCache().get(customerId));
+        assertEquals(misses + 1, cacheGets("miss"));
+        assertEquals(hits + 1, cacheGets("hit"));
+    }
+
+    @DisplayName("create should put the created customer in the cache")
+    @Test
+    void create_ShouldPutCustomer() {
+        // Act
+        var createdCustomer = customerService.create(FakeDataGenerator.customerBuilder().build());
+
+        // Assert
+        var cachedCustomer = customersCache().get(createdCustomer.getId(), Customer.class);
+        assertNotNull(cachedCustomer);
+        assertEquals(createdCustomer.getEmail(), cachedCustomer.getEmail());
+    }
+
+    @DisplayName("update should refresh the cached customer")
+    @Test
+    void update_ShouldRefreshCustomer() {
+        // Prepare
+        var customerId = customerService.create(FakeDataGenerator.customerBuilder().build()).getId();
+        customerService.getById(customerId);
+        var changes = FakeDataGenerator.customerBuilder().build();
+
+        // Act
+        customerService.update(customerId, changes);
+
+        // Assert
+        var cachedCustomer = customersCache().get(customerId, Customer.class);
+        assertNotNull(cachedCustomer);
+        assertEquals(changes.getFullName(), cachedCustomer.getFullName());
+        assertEquals(changes.getFullName(), customerService.getById(customerId).getFullName());
+    }
+
+    @DisplayName("deactivate should evict the cached customer")
+    @Test
+    void deactivate_ShouldEvictCustomer() {
+        // Prepare
+        var customerId = customerService.create(FakeDataGenerator.customerBuilder().build()).getId();
+        customerService.getById(customerId);
+
+        // Act
+        customerService.deactivate(customerId);
+
+        // Assert
+        assertNull(customersCache().get(customerId));
+        assertFalse(customerService.getById(customerId).getIsActive());
+    }
+
+    @DisplayName("deactivateAll should evict only the deactivated customers")
+    @Test
+    void deactivateAll_ShouldEvictOnlyGivenCustomers() {
+        // Prepare
+        var deactivatedId = customerService.create(FakeDataGenerator.customerBuilder().build()).getId();
+        var keptId = customerService.create(FakeDataGenerator.customerBuilder().build()).getId();
+
+        // Act
+        customerService.deactivateAll(List.of(deactivatedId));
+
+        // Assert
+        assertNull(customersCache().get(deactivatedId));
+        assertNotNull(customersCache().get(keptId));
+    }
+
+    @DisplayName("Customers beyond the maximum size should be evicted and counted")
+    @Test
+    void getById_WhenCacheIsFull_ShouldCountEvictions() {
+        // Prepare
+        var evictions = cacheEvictions();
+
+        // Act
+        for (long customerId = 1; customerId <= MAXIMUM_SIZE + 2; customerId++) {
+            customerService.getById(customerId);
+        }
+        nativeCache().cleanUp();
+
+        // Assert
+        assertTrue(nativeCache().estimatedSize() <= MAXIMUM_SIZE);
+        assertTrue(cacheEvictions() >= evictions + 2);
+    }
+
+    private Cache customersCache() {
+        return cacheManager.getCache(CUSTOMERS_CACHE);
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache() {
+        var targetCache = ((TransactionAwareCacheDecorator) customersCache()).getTargetCache();
+        return ((CaffeineCache) targetCache).getNativeCache();
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tags("cache", CUSTOMERS_CACHE, "result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private double cacheEvictions() {
+        return meterRegistry.get("cache.evictions")
+                .tag("cache", CUSTOMERS_CACHE)
+                .functionCounter()
+                .count();
+    }
+}
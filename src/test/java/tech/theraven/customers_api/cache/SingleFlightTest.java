@@ -0,0 +1,114 @@
+package tech.theraven.customers_api.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tech.theraven.customers_api.exceptions.custom.EntityNotFoundException;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static tech.theraven.customers_api.constants.MetricsConstants.SINGLE_FLIGHT_METRIC;
+
+@DisplayName("Testing SingleFlight")
+class SingleFlightTest {
+
+    private static final int CALLERS = 16;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", meterRegistry);
+
+    @SneakyThrows
+    @DisplayName("Concurrent calls for the same key should share one load")
+    @Test
+    void execute_WhenCalledConcurrently_ShouldLoadOnce() {
+        // Prepare
+        var loads = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        var results = new ArrayList<CompletableFuture<String>>();
+
+        // Act
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> singleFlight.execute(1L, () -> {
+                    loads.incrementAndGet();
+                    awaitQuietly(release);
+                    return "customer";
+                }), executor));
+            }
+            try {
+                awaitDeduplicated(CALLERS - 1);
+            } finally {
+                release.countDown();
+            }
+        }
+
+        // Assert
+        assertEquals(1, loads.get());
+        results.forEach(result -> assertEquals("customer", result.join()));
+    }
+
+    @SneakyThrows
+    @DisplayName("Concurrent calls for the same key should share the exception of the load")
+    @Test
+    void execute_WhenLoadFails_ShouldThrowToEveryCaller() {
+        // Prepare
+        var release = new CountDownLatch(1);
+        var results = new ArrayList<CompletableFuture<String>>();
+
+        // Act
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 2; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> singleFlight.execute(1L, () -> {
+                    awaitQuietly(release);
+                    throw new EntityNotFoundException("Customer", "Id: 1");
+                }), executor));
+            }
+            try {
+                awaitDeduplicated(1);
+            } finally {
+                release.countDown();
+            }
+        }
+
+        // Assert
+        results.forEach(result -> assertInstanceOf(EntityNotFoundException.class,
+                assertThrows(Exception.class, result::join).getCause()));
+    }
+
+    @DisplayName("Sequential calls should each load")
+    @Test
+    void execute_WhenCalledSequentially_ShouldLoadEachTime() {
+        // Prepare
+        var loads = new AtomicInteger();
+
+        // Act
+        singleFlight.execute(1L, () -> "customer-" + loads.incrementAndGet());
+        var result = singleFlight.execute(1L, () -> "customer-" + loads.incrementAndGet());
+
+        // Assert
+        assertEquals("customer-2", result);
+        assertEquals(0, meterRegistry.get(SINGLE_FLIGHT_METRIC).tag("outcome", "deduplicated").counter().count());
+    }
+
+    @SneakyThrows
+    private void awaitDeduplicated(int calls) {
+        var counter = meterRegistry.get(SINGLE_FLIGHT_METRIC).tag("outcome", "deduplicated").counter();
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (counter.count() < calls && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(calls, counter.count());
+    }
+
+    @SneakyThrows
+    private static void awaitQuietly(CountDownLatch latch) {
+        latch.await();
+    }
+}
@@ -0,0 +1,229 @@
+package tech.theraven.customers_api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import tech.theraven.customers_api.model.Customer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static tech.theraven.customers_api.constants.CacheConstants.CUSTOMERS_CACHE;
+import static tech.theraven.customers_api.testutils.FakeDataGenerator.customerBuilder;
+
+@DisplayName("Testing TwoLevelCache")
+class TwoLevelCacheTest {
+
+    private static final long AWAIT_SECONDS = 5;
+
+    private final PausingSharedCacheStore sharedStore = new PausingSharedCacheStore();
+    private final CacheInvalidationBus invalidationBus = new InMemoryCacheInvalidationBus();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private TwoLevelCache firstNode;
+    private TwoLevelCache secondNode;
+
+    @BeforeEach
+    void setUp() {
+        firstNode = createNode("first-node");
+        secondNode = createNode("second-node");
+    }
+
+    @DisplayName("Value put on one node should be readable on another node")
+    @Test
+    void get_WhenValuePutOnAnotherNode_ShouldReturnSharedValue() {
+        // Prepare
+        var customer = customerBuilder().id(1L).build();
+
+        // Execute
+        firstNode.put(customer.getId(), customer);
+
+        // Assert
+        var cachedCustomer = (Customer) secondNode.get(customer.getId()).get();
+        assertEquals(customer.getId(), cachedCustomer.getId());
+        assertEquals(customer.getEmail(), cachedCustomer.getEmail());
+    }
+
+    @DisplayName("Value put on one node should replace the local copy on another node")
+    @Test
+    void put_ShouldInvalidateLocalCopyOnOtherNodes() {
+        // Prepare
+        var customer = customerBuilder().id(1L).build();
+        var updatedCustomer = customerBuilder().id(1L).build();
+        firstNode.put(customer.getId(), customer);
+        secondNode.get(customer.getId());
+
+        // Execute
+        firstNode.put(updatedCustomer.getId(), updatedCustomer);
+
+        // Assert
+        var cachedCustomer = (Customer) secondNode.get(customer.getId()).get();
+        assertEquals(updatedCustomer.getFullName(), cachedCustomer.getFullName());
+    }
+
+    @DisplayName("Value evicted on one node should be absent on all nodes")
+    @Test
+    void evict_ShouldRemoveValueOnAllNodes() {
+        // Prepare
+        var customer = customerBuilder().id(1L).build();
+        firstNode.put(customer.getId(), customer);
+        secondNode.get(customer.getId());
+
+        // Execute
+        firstNode.evict(customer.getId());
+
+        // Assert
+        assertNull(firstNode.get(customer.getId()));
+        assertNull(secondNode.get(customer.getId()));
+    }
+
+    @DisplayName("A fill should not overwrite a value updated on another node since the miss")
+    @Test
+    void putIfAbsent_WhenUpdatedOnAnotherNodeSinceMiss_ShouldKeepUpdatedValue() {
+        // Prepare
+        var staleCustomer = customerBuilder().id(1L).build();
+        var updatedCustomer = customerBuilder().id(1L).build();
+        assertNull(firstNode.get(staleCustomer.getId()));
+        secondNode.put(updatedCustomer.getId(), updatedCustomer);
+
+        // Execute
+        var existing = firstNode.putIfAbsent(staleCustomer.getId(), staleCustomer);
+
+        // Assert
+        assertEquals(updatedCustomer.getFullName(), ((Customer) existing.get()).getFullName());
+        var firstNodeCustomer = (Customer) firstNode.get(staleCustomer.getId()).get();
+        var secondNodeCustomer = (Customer) secondNode.get(staleCustomer.getId()).get();
+        assertEquals(updatedCustomer.getFullName(), firstNodeCustomer.getFullName());
+        assertEquals(updatedCustomer.getFullName(), secondNodeCustomer.getFullName());
+    }
+
+    @DisplayName("A fill should be shared with other nodes without invalidating them")
+    @Test
+    void putIfAbsent_WhenAbsent_ShouldStoreValueWithoutInvalidation() {
+        // Prepare
+        var customer = customerBuilder().id(1L).build();
+        var invalidations = new ArrayList<CacheInvalidation>();
+        invalidationBus.subscribe(invalidations::add);
+
+        // Execute
+        var existing = firstNode.putIfAbsent(customer.getId(), customer);
+
+        // Assert
+        assertNull(existing);
+        assertTrue(invalidations.isEmpty());
+        var cachedCustomer = (Customer) secondNode.get(customer.getId()).get();
+        assertEquals(customer.getEmail(), cachedCustomer.getEmail());
+    }
+
+    @SneakyThrows
+    @DisplayName("A value loaded before a concurrent eviction should not be filled in after it")
+    @Test
+    void get_WhenEvictedOnAnotherNodeDuringLoad_ShouldNotFillLoadedValue() {
+        // Prepare
+        var staleCustomer = customerBuilder().id(1L).build();
+        var loading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var reader = CompletableFuture.supplyAsync(() -> firstNode.get(staleCustomer.getId(), () -> {
+            loading.countDown();
+            release.await(AWAIT_SECONDS, TimeUnit.SECONDS);
+            return staleCustomer;
+        }));
+        assertTrue(loading.await(AWAIT_SECONDS, TimeUnit.SECONDS));
+
+        // Execute
+        // The eviction waits for the load to complete before it removes the local copy of the first node
+        var writer = CompletableFuture.runAsync(() -> secondNode.evict(staleCustomer.getId()));
+        awaitGeneration(sharedKey(staleCustomer.getId()), 1);
+        release.countDown();
+
+        // Assert
+        assertEquals(staleCustomer.getEmail(), reader.get(AWAIT_SECONDS, TimeUnit.SECONDS).getEmail());
+        writer.get(AWAIT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(sharedStore.get(sharedKey(staleCustomer.getId())).isEmpty());
+        assertNull(firstNode.get(staleCustomer.getId()));
+        assertNull(secondNode.get(staleCustomer.getId()));
+    }
+
+    @SneakyThrows
+    @DisplayName("A shared value copied to the local level during a concurrent update should be invalidated")
+    @Test
+    void get_WhenUpdatedOnAnotherNodeDuringCopy_ShouldReturnUpdatedValue() {
+        // Prepare
+        var staleCustomer = customerBuilder().id(1L).build();
+        var updatedCustomer = customerBuilder().id(1L).build();
+        secondNode.put(staleCustomer.getId(), staleCustomer);
+        var copying = sharedStore.pauseNextGet();
+        var reader = CompletableFuture.supplyAsync(() -> firstNode.get(staleCustomer.getId()));
+        assertTrue(copying.await(AWAIT_SECONDS, TimeUnit.SECONDS));
+
+        // Execute
+        var writer = CompletableFuture.runAsync(() -> secondNode.put(updatedCustomer.getId(), updatedCustomer));
+        awaitGeneration(sharedKey(staleCustomer.getId()), 2);
+        sharedStore.resume();
+
+        // Assert
+        reader.get(AWAIT_SECONDS, TimeUnit.SECONDS);
+        writer.get(AWAIT_SECONDS, TimeUnit.SECONDS);
+        var cachedCustomer = (Customer) firstNode.get(staleCustomer.getId()).get();
+        assertEquals(updatedCustomer.getFullName(), cachedCustomer.getFullName());
+    }
+
+    @SneakyThrows
+    private void awaitGeneration(String key, long generation) {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(AWAIT_SECONDS);
+        while (sharedStore.generation(key) < generation) {
+            assertTrue(System.nanoTime() < deadline, "Generation of " + key + " was not advanced");
+            Thread.sleep(1);
+        }
+    }
+
+    private static String sharedKey(Object key) {
+        return CUSTOMERS_CACHE + "::" + key;
+    }
+
+    private TwoLevelCache createNode(String nodeId) {
+        var localCache = new CaffeineCache(CUSTOMERS_CACHE, Caffeine.newBuilder().build(), false);
+        return new TwoLevelCache(localCache, sharedStore, invalidationBus, objectMapper,
+                Customer.class, Duration.ofMinutes(1), nodeId);
+    }
+
+    /**
+     * Shared store whose next read can be held after the value is read, to interleave a concurrent write.
+     */
+    private static class PausingSharedCacheStore extends InMemorySharedCacheStore {
+
+        private volatile CountDownLatch paused;
+        private final CountDownLatch resumed = new CountDownLatch(1);
+
+        CountDownLatch pauseNextGet() {
+            paused = new CountDownLatch(1);
+            return paused;
+        }
+
+        void resume() {
+            resumed.countDown();
+        }
+
+        @SneakyThrows
+        @Override
+        public Optional<String> get(String key) {
+            var value = super.get(key);
+            var pausedGet = paused;
+            if (pausedGet != null) {
+                paused = null;
+                pausedGet.countDown();
+                resumed.await(AWAIT_SECONDS, TimeUnit.SECONDS);
+            }
+            return value;
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package tech.theraven.customers_api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Tuple;
 import lombok.SneakyThrows;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,34 +16,56 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.CannotCreateTransactionException;
 import tech.theraven.customers_api.exceptions.custom.EntityAlreadyExistsException;
 import tech.theraven.customers_api.exceptions.custom.EntityNotFoundException;
 import tech.theraven.customers_api.exceptions.custom.FieldUnchangedException;
+import tech.theraven.customers_api.exceptions.custom.PreconditionFailedException;
 import tech.theraven.customers_api.mapper.CustomerMapper;
 import tech.theraven.customers_api.mapper.CustomerMapperImpl;
 import tech.theraven.customers_api.model.Customer;
+import tech.theraven.customers_api.model.dto.BatchItemResult;
+import tech.theraven.customers_api.model.dto.CustomerField;
+import tech.theraven.customers_api.model.dto.CustomerFilter;
+import tech.theraven.customers_api.model.dto.CustomerSort;
+import tech.theraven.customers_api.model.dto.DeactivationSummary;
+import tech.theraven.customers_api.model.dto.LookupResult;
 import tech.theraven.customers_api.service.CustomerService;
 import tech.theraven.customers_api.testutils.FakeDataGenerator;
 import tech.theraven.customers_api.testutils.enums.CustomerFiledName;
+import tech.theraven.customers_api.util.CursorCodec;
+import tech.theraven.customers_api.util.CustomerETag;
 
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static tech.theraven.customers_api.constants.DatabaseConstants.CUSTOMERS_EMAIL_UNIQUE_CONSTRAINT;
+import static tech.theraven.customers_api.constants.PaginationConstants.MAX_SEARCH_RESULTS;
 import static tech.theraven.customers_api.constants.ValidationConstants.EMAIL_FORMAT_MESSAGE;
 import static tech.theraven.customers_api.constants.ValidationConstants.PHONE_FORMAT_MESSAGE;
 import static tech.theraven.customers_api.testutils.FakeDataGenerator.customerBuilder;
 import static tech.theraven.customers_api.testutils.enums.CustomerFiledName.*;
 
 @WebMvcTest(CustomerController.class)
-@Import(CustomerMapperImpl.class)
+@Import({CustomerMapperImpl.class, SimpleMeterRegistry.class})
 @DisplayName("Testing CustomerController")
 class CustomerControllerTest {
 
@@ -52,6 +78,9 @@ class CustomerControllerTest {
     @Autowired
     private CustomerMapper mapper;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @MockBean
     private CustomerService customerService;
 
@@ -90,9 +119,9 @@ class CustomerControllerTest {
     }
 
     @SneakyThrows
-    @DisplayName("Method createCustomer should return 201 when customer already exists")
+    @DisplayName("Method createCustomer should return 409 when customer already exists")
     @Test
-    void createCustomer_WhenCustomerAlreadyExists_ShouldReturnBadRequest() {
+    void createCustomer_WhenCustomerAlreadyExists_ShouldReturnConflict() {
         // Prepare
         var customerId = 999L;
         var customerEmail = "customer@theraven.com";
@@ -111,12 +140,58 @@ class CustomerControllerTest {
         mockMvc.perform(post(REQUEST_URI)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(customerToCreate)))
-                .andExpect(status().isBadRequest())
+                .andExpect(status().isConflict())
                 .andExpect(content().contentType("application/json"))
                 .andExpect(jsonPath("$.message").value(containsString(errorMessage)))
                 .andExpect(jsonPath("$.timestamp").exists());
     }
 
+    @SneakyThrows
+    @DisplayName("Method createCustomer should return 409 without database details when the email constraint is violated")
+    @Test
+    void createCustomer_WhenEmailConstraintViolated_ShouldReturnConflict() {
+        // Prepare
+        var customer = customerBuilder().build();
+        var customerToCreate = mapper.toCustomerCreateDTO(customer);
+        var detail = "Key (email)=(" + customer.getEmail() + ") already exists.";
+
+        when(customerService.create(any(Customer.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement",
+                        new ConstraintViolationException(detail, new SQLException(detail, "23505"), CUSTOMERS_EMAIL_UNIQUE_CONSTRAINT)));
+
+        // Act & Assert
+        mockMvc.perform(post(REQUEST_URI)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(customerToCreate)))
+                .andExpect(status().isConflict())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.message", not(containsString(customer.getEmail()))))
+                .andExpect(jsonPath("$.message", not(containsString(CUSTOMERS_EMAIL_UNIQUE_CONSTRAINT))))
+                .andExpect(jsonPath("$.timestamp").exists());
+    }
+
+    @SneakyThrows
+    @DisplayName("Method createCustomer should return 400 without database details when another constraint is violated")
+    @Test
+    void createCustomer_WhenOtherConstraintViolated_ShouldReturnBadRequest() {
+        // Prepare
+        var customerToCreate = mapper.toCustomerCreateDTO(customerBuilder().build());
+        var detail = "null value in column \"full_name\" violates not-null constraint";
+
+        when(customerService.create(any(Customer.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement",
+                        new ConstraintViolationException(detail, new SQLException(detail, "23502"), null)));
+
+        // Act & Assert
+        mockMvc.perform(post(REQUEST_URI)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(customerToCreate)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.message", not(containsString("full_name"))))
+                .andExpect(jsonPath("$.timestamp").exists());
+    }
+
     @SneakyThrows
     @DisplayName("Method createCustomer should return 400 when input data is invalid")
     @ParameterizedTest
@@ -168,6 +243,58 @@ class CustomerControllerTest {
         verify(customerService, never()).create(any(Customer.class));
     }
 
+    @SneakyThrows
+    @DisplayName("Method createCustomers should return 207 when some customers were not created")
+    @Test
+    void createCustomers_WhenSomeCustomersFail_ShouldReturnMultiStatus() {
+        // Prepare
+        var createdCustomer = customerBuilder()
+                .id(999L)
+                .build();
+        var duplicatedCustomer = customerBuilder().build();
+        var customersToCreate = List.of(
+                mapper.toCustomerCreateDTO(createdCustomer),
+                mapper.toCustomerCreateDTO(duplicatedCustomer));
+        var errorMessage = Customer.class.getSimpleName() + " with 'Email: " + duplicatedCustomer.getEmail() + "' already exists!";
+
+        when(customerService.createAll(anyList())).thenReturn(List.of(
+                BatchItemResult.succeeded(0, createdCustomer),
+                BatchItemResult.failed(1, errorMessage)));
+
+        // Act & Assert
+        mockMvc.perform(post(REQUEST_URI + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(customersToCreate)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$[0].status").value("SUCCEEDED"))
+                .andExpect(jsonPath("$[0].result.id").value(createdCustomer.getId()))
+                .andExpect(jsonPath("$[1].status").value("FAILED"))
+                .andExpect(jsonPath("$[1].message").value(errorMessage));
+    }
+
+    @SneakyThrows
+    @DisplayName("Method createCustomers should return 400 when any customer is invalid")
+    @Test
+    void createCustomers_WithInvalidData_ShouldReturnBadRequest() {
+        // Prepare
+        var customersToCreate = List.of(
+                mapper.toCustomerCreateDTO(customerBuilder().build()),
+                mapper.toCustomerCreateDTO(customerBuilder().withInvalid(EMAIL).build()));
+
+        // Act & Assert
+        mockMvc.perform(post(REQUEST_URI + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(customersToCreate)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.message").exists())
+                .andExpect(jsonPath("$.timestamp").exists());
+
+        // Verify
+        verify(customerService, never()).createAll(anyList());
+    }
+
     @SneakyThrows
     @DisplayName("Method getCustomer should return 200 when customer is present")
     @Test
@@ -190,6 +317,126 @@ class CustomerControllerTest {
                 .andExpect(jsonPath("$.phone").value(customer.getPhone()));
     }
 
+    @SneakyThrows
+    @DisplayName("Method getCustomer should return only the requested fields")
+    @Test
+    void getCustomer_WithFields_ShouldReturnOnlyRequestedFields() {
+        // Prepare
+        var customerId = 999L;
+        var customer = customerBuilder()
+                .id(customerId)
+                .build();
+
+        when(customerService.getById(customerId)).thenReturn(customer);
+
+        // Act & Assert
+        mockMvc.perform(get(REQUEST_URI + "/" + customerId).param("fields", "id,email"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(customerId))
+                .andExpect(jsonPath("$.email").value(customer.getEmail()))
+                .andExpect(jsonPath("$.fullName").doesNotExist())
+                .andExpect(jsonPath("$.phone").doesNotExist());
+    }
+
+    @SneakyThrows
+    @DisplayName("Method getCustomer should return an ETag of the requested fields")
+    @Test
+    void getCustomer_WithFields_ShouldReturnETagOfFields() {
+        // Prepare
+        var customerId = 999L;
+        var customer = customerBuilder()
+                .id(customerId)
+                .build();
+        var fieldsETag = "\"" + CustomerETag.of(customer, Set.of(CustomerField.ID, CustomerField.EMAIL)) + "\"";
+
+        when(customerService.getById(customerId)).thenReturn(customer);
+
+        // Act & Assert
+        mockMvc.perform(get(REQUEST_URI + "/" + customerId).param("fields", "email,id"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, fieldsETag));
+        mockMvc.perform(get(REQUEST_URI + "/" + customerId).param("fields", "id,email")
+                        .header(HttpHeaders.IF_NONE_MATCH, fieldsETag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(REQUEST_URI + "/" + customerId).param("fields", "id,email")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + CustomerETag.of(customer) + "\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value(customer.getEmail()));
+    }
+
+    @SneakyThrows
+    @DisplayName("Method getCustomer should return 400 when a requested field is unknown")
+    @Test
+    void getCustomer_WhenFieldUnknown_ShouldReturnBadRequest() {
+        // Act & Assert
+        mockMvc.perform(get(REQUEST_URI + "/1").param("fields", "id,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.message", containsString("password")));
+
+        // Verify
+        verifyNoInteractions(customerService);
+    }
+
+    @SneakyThrows
+    @DisplayName("Method getCustomer should return 503 with Retry-After when no database connection is available")
+    @Test
+    void getCustomer_WhenConnectionPoolExhausted_ShouldReturnServiceUnavailable() {
+        // Prepare
+        var customerId = 999L;
+        var poolMessage = "HikariPool-1 - Connection is not available, request timed out after 2000ms.";
+
+        when(customerService.getById(customerId))
+                .thenThrow(new CannotCreateTransactionException("Could not open JPA EntityManager for transaction",
+                        new SQLTransientConnectionException(poolMessage)));
+
+        // Act & Assert
+        mockMvc.perform(get(REQUEST_URI + "/" + customerId))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.message", not(containsString("HikariPool"))))
+                .andExpect(jsonPath("$.timestamp").exists());
+    }
+
+    @SneakyThrows
+    @DisplayName("Method getCustomer should return validators of the customer")
+    @Test
+    void getCustomer_WhenCustomerPresent_ShouldReturnETagAndLastModified() {
+        // Prepare
+        var customerId = 999L;
+        var customer = customerBuilder()
+                .id(customerId)
+                .build();
+
+        when(customerService.getById(customerId)).thenReturn(customer);
+
+        // Act & Assert
+        mockMvc.perform(get(REQUEST_URI + "/" + customerId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + CustomerETag.of(customer) + "\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @SneakyThrows
+    @DisplayName("Method getCustomer should return 304 when ETag matches")
+    @Test
+    void getCustomer_WhenETagMatches_ShouldReturnStatusNotModified() {
+        // Prepare
+        var customerId = 999L;
+        var customer = customerBuilder()
+                .id(customerId)
+                .build();
+
+        when(customerService.getById(customerId)).thenReturn(customer);
+
+        // Act & Assert
+        mockMvc.perform(get(REQUEST_URI + "/" + customerId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + CustomerETag.of(customer) + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     @SneakyThrows
     @DisplayName("Method getCustomer should return 404 when customer is not present")
     @Test
@@ -209,6 +456,28 @@ class CustomerControllerTest {
                 .andExpect(jsonPath("$.timestamp").exists());
     }
 
+    @SneakyThrows
+    @DisplayName("Method getCustomer should count EntityNotFoundException when customer is not present")
+    @Test
+    void getCustomer_WhenCustomerIsNotPresent_ShouldCountException() {
+        // Prepare
+        var customerId = 999L;
+        var counter = meterRegistry.counter("customers.exceptions",
+                "exception", EntityNotFoundException.class.getSimpleName(),
+                "status", "404");
+        var countBefore = counter.count();
+
+        when(customerService.getById(customerId))
+                .thenThrow(new EntityNotFoundException(Customer.class.getSimpleName(), "Id: " + customerId));
+
+        // Act
+        mockMvc.perform(get(REQUEST_URI + "/" + customerId))
+                .andExpect(status().isNotFound());
+
+        // Assert
+        assertEquals(countBefore + 1, counter.count());
+    }
+
     @SneakyThrows
     @DisplayName("Method getCustomer should return 400 when Id is invalid")
     @Test
@@ -232,17 +501,281 @@ class CustomerControllerTest {
     @Test
     void getCustomers_ShouldReturnStatusOk() {
         // Prepare
-        when(customerService.getAllCustomers()).thenReturn(customers);
+        when(customerService.getCustomers(0L, 50)).thenReturn(customers);
 
         // Act & Assert
         mockMvc.perform(get(REQUEST_URI))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType("application/json"))
-                .andExpect(jsonPath("$[0].id").value(customers.getFirst().getId()))
-                .andExpect(jsonPath("$.size()").value(customers.size()))
+                .andExpect(jsonPath("$.content[0].id").value(customers.getFirst().getId()))
+                .andExpect(jsonPath("$.content.size()").value(customers.size()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
                 .andDo(print());
     }
 
+    @SneakyThrows
+    @DisplayName("Method getCustomers should return next cursor when page is full")
+    @Test
+    void getCustomers_WhenPageIsFull_ShouldReturnNextCursor() {
+        // Prepare
+        var lastCustomerId = 42L;
+        var page = List.of(customerBuilder().id(1L).build(), customerBuilder().id(lastCustomerId).build());
+        var nextCursor = CursorCodec.encode(lastCustomerId);
+
+        when(customerService.getCustomers(0L, page.size())).thenReturn(page);
+        when(customerService.getCustomers(lastCustomerId, page.size())).thenReturn(List.of());
+
+        // Act & Assert
+        mockMvc.perform(get(REQUEST_URI).param("limit", String.valueOf(page.size())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.size()").value(page.size()))
+                .andExpect(jsonPath("$.nextCursor").value(nextCursor));
+
+        mockMvc.perform(get(REQUEST_URI)
+                        .param("limit", String.valueOf(page.size()))
+                        .param("after", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.size()").value(0))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @SneakyThrows
+    @DisplayName("Method getCustomers should apply filter and sort and return a keyset cursor of the sort value and ID")
+    @Test
+    void getCustomers_WithFilterAndSort_ShouldReturnNextCursor() {
+        // Prepare
+        var created = Instant.parse("2024-05-01T10:00:00Z");
+        var page = List.of(customerBuilder().id(9L).created(created).build(),
+                customerBuilder().id(4L).created(created).build());
+        var filter = new CustomerFilter(true, null, null, null, null, null);
+        var sort = new CustomerSort(CustomerSort.Field.CREATED, Sort.Direction.DESC);
+        var nextCursor = CursorCodec.encode(created.getEpochSecond(), 4L);
+
+        when(customerService.getCustomers(filter, sort, null, page.size())).thenReturn(page);
+
+        // Act & Assert
+        mockMvc.perform(get(REQUEST_URI)
+                        .param("limit", String.valueOf(page.size()))
+                        .param("active", "true")
+                        .param("sort", "CREATED")
+                        .param("direction", "DESC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(9L))
+                .andExpect(jsonPath("$.nextCursor").value(nextCursor));
+
+        // Verify
+        verify(customerService, never()).getCustomers(anyLong(), anyInt());
+    }
+
+    @SneakyThrows
+    @DisplayName("Method getCustomers should return only the requested fields and a next cursor when page is full")
+    @Test
+    void getCustomers_WithFields_ShouldReturnOnlyRequestedFields() {
+        // Prepare
+        var lastCustomerId = 42L;
+        var lastEmail = "koval@example.com";
+        var row = mock(Tuple.class);
+        when(row.get("id")).thenReturn(lastCustomerId);
+        when(row.get("email")).thenReturn(lastEmail);
+        when(row.get("id", Long.class)).thenReturn(lastCustomerId);
+
+        var fields = Set.of(CustomerField.ID, CustomerField.EMAIL);
+        when(customerService.getCustomerFields(fields, CustomerFilter.NONE, CustomerSort.DEFAULT, null, 1))
+                .thenReturn(List.of(row));
+
+        // Act & Assert
+        mockMvc.perform(get(REQUEST_URI)
+                        .param("fields", "email,id")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(lastCustomerId))
+                .andExpect(jsonPath("$.content[0].email").value(lastEmail))
+                .andExpect(jsonPath("$.content[0].fullName").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value(CursorCodec.encode(lastCustomerId)));
+
+        // Verify
+        verify(customerService, never()).getCustomers(anyLong(), anyInt());
+    }
+
+    @SneakyThrows
+    @DisplayName("Method getCustomers should return 400 when sort field is unknown")
+    @Test
+    void getCustomers_WhenSortFieldUnknown_ShouldReturnBadRequest() {
+        // Act & Assert
+        mockMvc.perform(get(REQUEST_URI).param("sort", "email"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.message").exists());
+
+        // Verify
+        verifyNoInteractions(customerService);
+    }
+
+    @SneakyThrows
+    @DisplayName("Method getChanges should return changes since the watermark with a cursor at the last change")
+    @Test
+    void getChanges_WithSince_ShouldReturnChangesAndCursor() {
+        // Prepare
+        var since = Instant.parse("2024-05-01T10:00:00Z");
+        var updated = since.plusSeconds(30);
+        var tombstone = customerBuilder().id(7L).isActive(false).updated(updated).build();
+        var change = customerBuilder().id(3L).updated(since).build();
+
+        when(customerService.getChanges(new long[]{since.getEpochSecond(), 0L}, 50))
+                .thenReturn(List.of(change, tombstone));
+
+        // Act & Assert
+        mockMvc.perform(get(REQUEST_URI + "/changes").param("since", since.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.size()").value(2))
+                .andExpect(jsonPath("$.content[1].id").value(7L))
+                .andExpect(jsonPath("$.content[1].active").value(false))
+                .andExpect(jsonPath("$.nextCursor").value(CursorCodec.encode(updated.getEpochSecond(), 7L)));
+    }
+
+    @SneakyThrows
+    @DisplayName("Method getChanges should return the same cursor when there are no new changes")
+    @Test
+    void getChanges_WhenNoChanges_ShouldReturnSameCursor() {
+        // Prepare
+        var cursor = CursorCodec.encode(1714557600L, 7L);
+
+        when(customerService.getChanges(new long[]{1714557600L, 7L}, 50)).thenReturn(List.of());
+
+        // Act & Assert
+        mockMvc.perform(get(REQUEST_URI + "/changes").param("after", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.size()").value(0))
+                .andExpect(jsonPath("$.nextCursor").value(cursor));
+    }
+
+    @SneakyThrows
+    @DisplayName("Method getCustomers should return 400 when cursor is invalid")
+    @Test
+    void getCustomers_WhenCursorInvalid_ShouldReturnBadRequest() {
+        // Act & Assert
+        mockMvc.perform(get(REQUEST_URI).param("after", "invalid_cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.message").exists())
+                .andExpect(jsonPath("$.timestamp").exists());
+
+        // Verify
+        verify(customerService, never()).getCustomers(anyLong(), anyInt());
+    }
+
+    @SneakyThrows
+    @DisplayName("Method getCustomers should return 400 when limit is out of range")
+    @Test
+    void getCustomers_WhenLimitOutOfRange_ShouldReturnBadRequest() {
+        // Act & Assert
+        mockMvc.perform(get(REQUEST_URI).param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.message").exists())
+                .andExpect(jsonPath("$.timestamp").exists());
+
+        // Verify
+        verify(customerService, never()).getCustomers(anyLong(), anyInt());
+    }
+
+    @SneakyThrows
+    @DisplayName("Method searchCustomers should return matches with an offset cursor when page is full")
+    @Test
+    void searchCustomers_WhenPageIsFull_ShouldReturnNextCursor() {
+        // Prepare
+        var query = "koval";
+        var page = List.of(customerBuilder().id(7L).build(), customerBuilder().id(3L).build());
+
+        when(customerService.search(query, page.size(), 0L)).thenReturn(page);
+
+        // Act & Assert
+        mockMvc.perform(get(REQUEST_URI + "/search")
+                        .param("q", query)
+                        .param("limit", String.valueOf(page.size())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(7))
+                .andExpect(jsonPath("$.content[1].id").value(3))
+                .andExpect(jsonPath("$.nextCursor").value(CursorCodec.encode(page.size())));
+    }
+
+    @SneakyThrows
+    @DisplayName("Method searchCustomers should return 400 when the cursor is beyond the reachable results")
+    @Test
+    void searchCustomers_WhenCursorBeyondMaxResults_ShouldReturnBadRequest() {
+        // Act & Assert
+        mockMvc.perform(get(REQUEST_URI + "/search")
+                        .param("q", "koval")
+                        .param("after", CursorCodec.encode(MAX_SEARCH_RESULTS)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").exists());
+
+        // Verify
+        verify(customerService, never()).search(anyString(), anyInt(), anyLong());
+    }
+
+    @SneakyThrows
+    @DisplayName("Method searchCustomers should not return a cursor past the reachable results")
+    @Test
+    void searchCustomers_WhenLastReachablePage_ShouldNotReturnNextCursor() {
+        // Prepare
+        var query = "koval";
+        var page = List.of(customerBuilder().id(7L).build(), customerBuilder().id(3L).build());
+        long offset = MAX_SEARCH_RESULTS - page.size();
+
+        when(customerService.search(query, page.size(), offset)).thenReturn(page);
+
+        // Act & Assert
+        mockMvc.perform(get(REQUEST_URI + "/search")
+                        .param("q", query)
+                        .param("limit", String.valueOf(page.size()))
+                        .param("after", CursorCodec.encode(offset)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(page.size()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @SneakyThrows
+    @DisplayName("Method searchCustomers should return 400 when query is too short")
+    @Test
+    void searchCustomers_WhenQueryTooShort_ShouldReturnBadRequest() {
+        // Act & Assert
+        mockMvc.perform(get(REQUEST_URI + "/search").param("q", "ko"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.message").exists())
+                .andExpect(jsonPath("$.timestamp").exists());
+
+        // Verify
+        verify(customerService, never()).search(anyString(), anyInt(), anyLong());
+    }
+
+    @SneakyThrows
+    @DisplayName("Method exportCustomers should stream one JSON line per customer")
+    @Test
+    void exportCustomers_ShouldReturnNdjson() {
+        // Prepare
+        doAnswer(invocation -> {
+            Consumer<Customer> action = invocation.getArgument(0);
+            customers.forEach(action);
+            return null;
+        }).when(customerService).forEachCustomer(any());
+
+        // Act
+        var mvcResult = mockMvc.perform(get(REQUEST_URI + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(containsString(customers.getFirst().getEmail())))
+                .andExpect(content().string(containsString(customers.getLast().getEmail())));
+
+        assertEquals(customers.size(), mvcResult.getResponse().getContentAsString().lines().count());
+    }
+
     @SneakyThrows
     @DisplayName("Method updateCustomer should return 200 when input data is valid")
     @Test
@@ -268,6 +801,75 @@ class CustomerControllerTest {
                 .andExpect(jsonPath("$.phone").value(customerUpdateDTO.getPhone()));
     }
 
+    @SneakyThrows
+    @DisplayName("Method updateCustomer should update conditionally when If-Match is present")
+    @Test
+    void updateCustomer_WithIfMatch_ShouldUpdateExpectedVersion() {
+        // Prepare
+        var customerId = 999L;
+        var expectedVersion = 3L;
+        var customer = customerBuilder()
+                .id(customerId)
+                .build();
+        customer.setVersion(expectedVersion + 1);
+
+        var customerUpdateDTO = mapper.toCustomerUpdateDTO(customer);
+        when(customerService.update(eq(customerId), any(Customer.class), eq(expectedVersion))).thenReturn(customer);
+
+        // Act & Assert
+        mockMvc.perform(put(REQUEST_URI + "/" + customerId)
+                        .header(HttpHeaders.IF_MATCH, "\"" + customerId + "-" + expectedVersion + "\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(customerUpdateDTO)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + customerId + "-" + (expectedVersion + 1) + "\""));
+
+        // Verify
+        verify(customerService, never()).update(anyLong(), any(Customer.class));
+    }
+
+    @SneakyThrows
+    @DisplayName("Method updateCustomer should return 412 when version does not match")
+    @Test
+    void updateCustomer_WhenVersionDoesNotMatch_ShouldReturnPreconditionFailed() {
+        // Prepare
+        var customerId = 999L;
+        var expectedVersion = 3L;
+        var customerUpdateDTO = mapper.toCustomerUpdateDTO(customerBuilder().build());
+
+        when(customerService.update(eq(customerId), any(Customer.class), eq(expectedVersion)))
+                .thenThrow(new PreconditionFailedException(Customer.class.getSimpleName(), "Version: " + expectedVersion));
+
+        // Act & Assert
+        mockMvc.perform(put(REQUEST_URI + "/" + customerId)
+                        .header(HttpHeaders.IF_MATCH, "\"" + customerId + "-" + expectedVersion + "\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(customerUpdateDTO)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.message").exists())
+                .andExpect(jsonPath("$.timestamp").exists());
+    }
+
+    @SneakyThrows
+    @DisplayName("Method updateCustomer should return 412 when If-Match belongs to another customer")
+    @Test
+    void updateCustomer_WhenIfMatchIsForeign_ShouldReturnPreconditionFailed() {
+        // Prepare
+        var customerId = 999L;
+        var customerUpdateDTO = mapper.toCustomerUpdateDTO(customerBuilder().build());
+
+        // Act & Assert
+        mockMvc.perform(put(REQUEST_URI + "/" + customerId)
+                        .header(HttpHeaders.IF_MATCH, "W/\"1-0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(customerUpdateDTO)))
+                .andExpect(status().isPreconditionFailed());
+
+        // Verify
+        verify(customerService, never()).update(anyLong(), any(Customer.class), anyLong());
+    }
+
     @SneakyThrows
     @DisplayName("Method updateCustomer should return 400 when input data is invalid")
     @ParameterizedTest
@@ -419,6 +1021,78 @@ class CustomerControllerTest {
                 .andExpect(jsonPath("$.timestamp").exists());
     }
 
+    @SneakyThrows
+    @DisplayName("Method deactivateCustomers should return 200 with deactivation counts")
+    @Test
+    void deactivateCustomers_ShouldReturnSummary() {
+        // Prepare
+        var ids = List.of(1L, 2L, 3L);
+
+        when(customerService.deactivateAll(ids)).thenReturn(new DeactivationSummary(1, 1, 1));
+
+        // Act & Assert
+        mockMvc.perform(post(REQUEST_URI + "/batch/deactivate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deactivated").value(1))
+                .andExpect(jsonPath("$.alreadyInactive").value(1))
+                .andExpect(jsonPath("$.notFound").value(1));
+    }
+
+    @SneakyThrows
+    @DisplayName("Method deactivateCustomers should return 400 when no ids are given")
+    @Test
+    void deactivateCustomers_WithEmptyIds_ShouldReturnBadRequest() {
+        // Act & Assert
+        mockMvc.perform(post(REQUEST_URI + "/batch/deactivate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").exists())
+                .andExpect(jsonPath("$.timestamp").exists());
+
+        // Verify
+        verify(customerService, never()).deactivateAll(anyCollection());
+    }
+
+    @SneakyThrows
+    @DisplayName("Method lookupCustomers should return found customers in request order and missing ids")
+    @Test
+    void lookupCustomers_ShouldReturnFoundCustomersAndMissingIds() {
+        // Prepare
+        var ids = List.of(7L, 999L, 3L);
+        var result = new LookupResult<>(List.of(customerBuilder().id(7L).build(), customerBuilder().id(3L).build()),
+                List.of(999L));
+
+        when(customerService.getAllById(ids)).thenReturn(result);
+
+        // Act & Assert
+        mockMvc.perform(post(REQUEST_URI + "/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found.size()").value(2))
+                .andExpect(jsonPath("$.found[0].id").value(7L))
+                .andExpect(jsonPath("$.found[1].id").value(3L))
+                .andExpect(jsonPath("$.missingIds[0]").value(999L));
+    }
+
+    @SneakyThrows
+    @DisplayName("Method lookupCustomers should return 400 when no ids are given")
+    @Test
+    void lookupCustomers_WithEmptyIds_ShouldReturnBadRequest() {
+        // Act & Assert
+        mockMvc.perform(post(REQUEST_URI + "/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").exists());
+
+        // Verify
+        verify(customerService, never()).getAllById(anyCollection());
+    }
+
     @SneakyThrows
     @DisplayName("Method deleteCustomer should return 400 when Id is not valid")
     @Test
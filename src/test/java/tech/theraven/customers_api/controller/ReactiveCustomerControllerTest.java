@@ -0,0 +1,176 @@
+package tech.theraven.customers_api.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tech.theraven.customers_api.exceptions.custom.EntityAlreadyExistsException;
+import tech.theraven.customers_api.exceptions.custom.EntityNotFoundException;
+import tech.theraven.customers_api.exceptions.custom.FieldUnchangedException;
+import tech.theraven.customers_api.mapper.CustomerMapperImpl;
+import tech.theraven.customers_api.model.Customer;
+import tech.theraven.customers_api.model.CustomerRecord;
+import tech.theraven.customers_api.model.dto.CustomerInfo;
+import tech.theraven.customers_api.service.ReactiveCustomerService;
+
+import java.util.Map;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@WebFluxTest(ReactiveCustomerController.class)
+@ActiveProfiles("reactive")
+@Import({CustomerMapperImpl.class, SimpleMeterRegistry.class})
+@DisplayName("Testing ReactiveCustomerController")
+class ReactiveCustomerControllerTest {
+
+    private static final String REQUEST_URI = "/api/customers";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveCustomerService customerService;
+
+    @DisplayName("Method createCustomer should return 201 when input data is valid")
+    @Test
+    void createCustomer_WithValidData_ShouldReturnCreatedCustomer() {
+        // Prepare
+        var customer = customerRecord(999L);
+
+        when(customerService.create(any(CustomerRecord.class))).thenReturn(Mono.just(customer));
+
+        // Act & Assert
+        webTestClient.post().uri(REQUEST_URI)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of(
+                        "fullName", customer.getFullName(),
+                        "email", customer.getEmail(),
+                        "phone", customer.getPhone()))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(999)
+                .jsonPath("$.email").isEqualTo(customer.getEmail());
+    }
+
+    @DisplayName("Method createCustomer should return 400 when input data is not valid")
+    @Test
+    void createCustomer_WithInvalidData_ShouldReturnBadRequest() {
+        // Act & Assert
+        webTestClient.post().uri(REQUEST_URI)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("fullName", "Customer", "email", "invalid_email"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").exists()
+                .jsonPath("$.timestamp").exists();
+
+        // Verify
+        verify(customerService, never()).create(any());
+    }
+
+    @DisplayName("Method createCustomer should return 409 when customer already exists")
+    @Test
+    void createCustomer_WhenCustomerAlreadyExists_ShouldReturnConflict() {
+        // Prepare
+        var customer = customerRecord(999L);
+
+        when(customerService.create(any(CustomerRecord.class))).thenReturn(Mono.error(
+                new EntityAlreadyExistsException(Customer.class.getSimpleName(), "Email: " + customer.getEmail())));
+
+        // Act & Assert
+        webTestClient.post().uri(REQUEST_URI)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("fullName", customer.getFullName(), "email", customer.getEmail()))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+                .expectBody()
+                .jsonPath("$.message").value(containsString(customer.getEmail()));
+    }
+
+    @DisplayName("Method getCustomer should return customer with validators")
+    @Test
+    void getCustomer_WhenCustomerIsPresent_ShouldReturnCustomer() {
+        // Prepare
+        var customer = customerRecord(1L);
+
+        when(customerService.getById(1L)).thenReturn(Mono.just(customer));
+
+        // Act & Assert
+        webTestClient.get().uri(REQUEST_URI + "/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1-3\"")
+                .expectBody()
+                .jsonPath("$.fullName").isEqualTo(customer.getFullName());
+    }
+
+    @DisplayName("Method getCustomer should return 404 when customer is not present")
+    @Test
+    void getCustomer_WhenCustomerIsNotPresent_ShouldReturnStatusNotFound() {
+        // Prepare
+        when(customerService.getById(999L)).thenReturn(Mono.error(
+                new EntityNotFoundException(Customer.class.getSimpleName(), "Id: 999")));
+
+        // Act & Assert
+        webTestClient.get().uri(REQUEST_URI + "/999")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").value(containsString("Id: 999"));
+    }
+
+    @DisplayName("Method exportCustomers should stream customers as NDJSON")
+    @Test
+    void exportCustomers_ShouldStreamCustomers() {
+        // Prepare
+        when(customerService.getAllCustomers()).thenReturn(Flux.just(customerRecord(1L), customerRecord(2L)));
+
+        // Act & Assert
+        webTestClient.get().uri(REQUEST_URI + "/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(CustomerInfo.class)
+                .hasSize(2);
+    }
+
+    @DisplayName("Method deleteCustomer should return 304 when customer is already inactive")
+    @Test
+    void deleteCustomer_WhenCustomerIsInactive_ShouldReturnNotModified() {
+        // Prepare
+        when(customerService.deactivate(1L)).thenReturn(Mono.error(
+                new FieldUnchangedException("Customer is already inactive.")));
+
+        // Act & Assert
+        webTestClient.delete().uri(REQUEST_URI + "/1")
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    private static CustomerRecord customerRecord(Long id) {
+        return CustomerRecord.builder()
+                .id(id)
+                .fullName("Customer " + id)
+                .email("customer" + id + "@theraven.tech")
+                .phone("+380000000" + String.format("%03d", id))
+                .created(1_700_000_000L)
+                .updated(1_700_000_000L)
+                .version(3L)
+                .build();
+    }
+}
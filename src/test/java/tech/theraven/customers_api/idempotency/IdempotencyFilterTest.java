@@ -0,0 +1,243 @@
+package tech.theraven.customers_api.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static tech.theraven.customers_api.idempotency.IdempotencyFilter.IDEMPOTENCY_KEY_HEADER;
+import static tech.theraven.customers_api.idempotency.IdempotencyFilter.IDEMPOTENT_REPLAYED_HEADER;
+
+@DisplayName("Testing IdempotencyFilter")
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"fullName\":\"John Doe\",\"email\":\"john@example.com\"}";
+    private static final String CREATED_BODY = "{\"id\":1}";
+    private static final int CALLERS = 8;
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(5);
+
+    private final IdempotencyStore store = new InMemoryIdempotencyStore(100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+    private final IdempotencyFilter filter = filter(WAIT_TIMEOUT);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @SneakyThrows
+    @DisplayName("A retry with the same key should replay the recorded response without executing again")
+    @Test
+    void doFilter_WhenRetried_ShouldReplayResponse() {
+        // Prepare
+        var chain = creatingChain(HttpStatus.CREATED);
+        filter.doFilter(request("key-1", BODY), new MockHttpServletResponse(), chain);
+
+        // Act
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request("key-1", BODY), response, chain);
+
+        // Assert
+        assertEquals(HttpStatus.CREATED.value(), response.getStatus());
+        assertEquals(CREATED_BODY, response.getContentAsString());
+        assertEquals("true", response.getHeader(IDEMPOTENT_REPLAYED_HEADER));
+
+        // Verify
+        assertEquals(1, executions.get());
+    }
+
+    @SneakyThrows
+    @DisplayName("A key reused for a different body should be rejected with 422")
+    @Test
+    void doFilter_WhenKeyReusedForDifferentBody_ShouldReturnUnprocessableEntity() {
+        // Prepare
+        var chain = creatingChain(HttpStatus.CREATED);
+        filter.doFilter(request("key-1", BODY), new MockHttpServletResponse(), chain);
+
+        // Act
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request("key-1", "{\"fullName\":\"Jane Doe\"}"), response, chain);
+
+        // Assert
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY.value(), response.getStatus());
+
+        // Verify
+        assertEquals(1, executions.get());
+    }
+
+    @SneakyThrows
+    @DisplayName("A server error should not be recorded, so a retry executes again")
+    @Test
+    void doFilter_WhenServerError_ShouldExecuteRetry() {
+        // Prepare
+        var chain = creatingChain(HttpStatus.INTERNAL_SERVER_ERROR);
+        filter.doFilter(request("key-1", BODY), new MockHttpServletResponse(), chain);
+
+        // Act
+        filter.doFilter(request("key-1", BODY), new MockHttpServletResponse(), chain);
+
+        // Verify
+        assertEquals(2, executions.get());
+    }
+
+    @SneakyThrows
+    @DisplayName("Concurrent requests with the same key should execute once and share the response")
+    @Test
+    void doFilter_WhenCalledConcurrently_ShouldExecuteOnce() {
+        // Prepare
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        FilterChain chain = (request, response) -> {
+            entered.countDown();
+            awaitQuietly(release);
+            creatingChain(HttpStatus.CREATED).doFilter(request, response);
+        };
+        var responses = new ArrayList<CompletableFuture<MockHttpServletResponse>>();
+
+        // Act
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                responses.add(CompletableFuture.supplyAsync(() -> execute(request("key-1", BODY), chain), executor));
+            }
+            try {
+                assertTrue(entered.await(5, TimeUnit.SECONDS));
+            } finally {
+                release.countDown();
+            }
+        }
+
+        // Assert
+        responses.forEach(response -> assertEquals(CREATED_BODY, getContent(response.join())));
+
+        // Verify
+        assertEquals(1, executions.get());
+    }
+
+    @SneakyThrows
+    @DisplayName("A request whose key runs on another node should execute once and replay its response")
+    @Test
+    void doFilter_WhenKeyRunsOnAnotherNode_ShouldReplayResponse() {
+        // Prepare
+        var otherNode = filter(WAIT_TIMEOUT);
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        FilterChain chain = (request, response) -> {
+            entered.countDown();
+            awaitQuietly(release);
+            creatingChain(HttpStatus.CREATED).doFilter(request, response);
+        };
+
+        // Act
+        MockHttpServletResponse response;
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var first = CompletableFuture.supplyAsync(() -> execute(otherNode, request("key-1", BODY), chain), executor);
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            var retry = CompletableFuture.supplyAsync(() -> execute(filter, request("key-1", BODY), chain), executor);
+            release.countDown();
+            first.join();
+            response = retry.join();
+        }
+
+        // Assert
+        assertEquals(HttpStatus.CREATED.value(), response.getStatus());
+        assertEquals(CREATED_BODY, response.getContentAsString());
+        assertEquals("true", response.getHeader(IDEMPOTENT_REPLAYED_HEADER));
+
+        // Verify
+        assertEquals(1, executions.get());
+    }
+
+    @SneakyThrows
+    @DisplayName("A request whose key stays claimed longer than the wait timeout should be rejected with 409")
+    @Test
+    void doFilter_WhenKeyClaimedBeyondWaitTimeout_ShouldReturnConflict() {
+        // Prepare
+        var impatientFilter = filter(Duration.ofMillis(200));
+        assertTrue(store.claim("POST /api/customers key-1"));
+
+        // Act
+        var response = new MockHttpServletResponse();
+        impatientFilter.doFilter(request("key-1", BODY), response, creatingChain(HttpStatus.CREATED));
+
+        // Assert
+        assertEquals(HttpStatus.CONFLICT.value(), response.getStatus());
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+
+        // Verify
+        assertEquals(0, executions.get());
+    }
+
+    @SneakyThrows
+    @DisplayName("Requests without a key should not be recorded")
+    @Test
+    void doFilter_WhenNoKey_ShouldExecuteEveryRequest() {
+        // Prepare
+        var chain = creatingChain(HttpStatus.CREATED);
+
+        // Act
+        filter.doFilter(request(null, BODY), new MockHttpServletResponse(), chain);
+        filter.doFilter(request(null, BODY), new MockHttpServletResponse(), chain);
+
+        // Verify
+        assertEquals(2, executions.get());
+    }
+
+    private FilterChain creatingChain(HttpStatus status) {
+        return (request, response) -> {
+            request.getInputStream().readAllBytes();
+            executions.incrementAndGet();
+            var httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(status.value());
+            httpResponse.setContentType("application/json");
+            httpResponse.getOutputStream().write(CREATED_BODY.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    @SneakyThrows
+    private static void awaitQuietly(CountDownLatch latch) {
+        latch.await(5, TimeUnit.SECONDS);
+    }
+
+    private IdempotencyFilter filter(Duration waitTimeout) {
+        return new IdempotencyFilter(store, new ObjectMapper(), waitTimeout, new SimpleMeterRegistry());
+    }
+
+    private MockHttpServletResponse execute(MockHttpServletRequest request, FilterChain chain) {
+        return execute(filter, request, chain);
+    }
+
+    @SneakyThrows
+    private static MockHttpServletResponse execute(IdempotencyFilter filter, MockHttpServletRequest request,
+                                                   FilterChain chain) {
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @SneakyThrows
+    private static String getContent(MockHttpServletResponse response) {
+        return response.getContentAsString();
+    }
+
+    private static MockHttpServletRequest request(String idempotencyKey, String body) {
+        var request = new MockHttpServletRequest("POST", "/api/customers");
+        if (idempotencyKey != null) {
+            request.addHeader(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,71 @@
+package tech.theraven.customers_api.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.theraven.customers_api.model.CustomerEvent;
+import tech.theraven.customers_api.repository.CustomerEventRepository;
+import tech.theraven.customers_api.service.CustomerService;
+import tech.theraven.customers_api.testutils.FakeDataGenerator;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.NONE;
+
+@ActiveProfiles("integration")
+@SpringBootTest(webEnvironment = NONE)
+@Transactional
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class OutboxRelayTest {
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CustomerEventRepository customerEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void relayPublishesEventsInOrderAndDrainsOutbox() {
+        // Prepare
+        var sink = new InMemoryOutboxSink();
+        var relay = new OutboxRelay(customerEventRepository, sink, transactionTemplate, new SimpleMeterRegistry(), 2);
+        var firstCustomerId = customerService.create(FakeDataGenerator.customerBuilder().build()).getId();
+        var secondCustomerId = customerService.create(FakeDataGenerator.customerBuilder().build()).getId();
+        customerService.deactivate(firstCustomerId);
+
+        // Execute
+        relay.relay();
+
+        // Assert
+        var published = sink.getEvents();
+        assertEquals(published.stream().map(CustomerEvent::getCustomerId).toList(),
+                List.of(firstCustomerId, secondCustomerId, firstCustomerId));
+        assertEquals(published.getLast().getType(), CustomerEvent.Type.DEACTIVATED);
+        assertEquals(customerEventRepository.count(), 0);
+    }
+
+    @Test
+    void relayKeepsEventsWhenSinkFails() {
+        // Prepare
+        OutboxSink failingSink = events -> {
+            throw new IllegalStateException("Broker unavailable");
+        };
+        var relay = new OutboxRelay(customerEventRepository, failingSink, transactionTemplate, new SimpleMeterRegistry(), 10);
+        customerService.create(FakeDataGenerator.customerBuilder().build());
+
+        // Execute
+        relay.relay();
+
+        // Assert
+        assertEquals(customerEventRepository.count(), 1);
+    }
+}
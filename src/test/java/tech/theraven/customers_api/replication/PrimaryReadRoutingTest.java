@@ -0,0 +1,99 @@
+package tech.theraven.customers_api.replication;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tech.theraven.customers_api.model.dto.CustomerFilter;
+import tech.theraven.customers_api.model.dto.CustomerSort;
+import tech.theraven.customers_api.service.CustomerService;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.NONE;
+import static tech.theraven.customers_api.constants.CacheConstants.CUSTOMERS_CACHE;
+
+/**
+ * Checks which reads {@link ReplicaRoutingDataSource} may send to a replica: it routes a statement to a replica
+ * only when the transaction executing it is read-only, which is recorded here for every executed statement.
+ * Not transactional, so that each service call runs in the transactions it opens itself.
+ */
+@ActiveProfiles("integration")
+@SpringBootTest(webEnvironment = NONE, properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "tech.theraven.customers_api.replication.PrimaryReadRoutingTest$ReadOnlyRecorder")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Testing the routing of reads to the primary")
+class PrimaryReadRoutingTest {
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CUSTOMERS_CACHE).clear();
+        ReadOnlyRecorder.STATEMENTS.clear();
+    }
+
+    @DisplayName("Cache misses of getById should be read from the primary")
+    @Test
+    void getById_WhenNotCached_ShouldReadFromPrimary() {
+        // Act
+        customerService.getById(1L);
+
+        // Assert
+        assertReadFromPrimary();
+    }
+
+    @DisplayName("The changes feed should be read from the primary")
+    @Test
+    void getChanges_ShouldReadFromPrimary() {
+        // Act
+        customerService.getChanges(null, 10);
+
+        // Assert
+        assertReadFromPrimary();
+    }
+
+    @DisplayName("Listings may be read from a replica")
+    @Test
+    void getCustomers_ShouldBeRoutableToReplica() {
+        // Act
+        customerService.getCustomers(CustomerFilter.NONE, CustomerSort.DEFAULT, null, 10);
+
+        // Assert
+        assertFalse(ReadOnlyRecorder.STATEMENTS.isEmpty());
+        assertTrue(ReadOnlyRecorder.STATEMENTS.stream().allMatch(Boolean::booleanValue));
+    }
+
+    private static void assertReadFromPrimary() {
+        List<Boolean> readOnly = ReadOnlyRecorder.STATEMENTS;
+        assertFalse(readOnly.isEmpty());
+        assertTrue(readOnly.stream().noneMatch(Boolean::booleanValue));
+    }
+
+    /**
+     * Records whether each statement is executed in a read-only transaction.
+     */
+    public static class ReadOnlyRecorder implements StatementInspector {
+
+        static final List<Boolean> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package tech.theraven.customers_api.replication;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testing ReplicaRoutingDataSource")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String REPLICA = "replica-0";
+
+    private final ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    @SneakyThrows
+    void setUp() {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(lagMonitor.getEligibleReplicas()).thenReturn(List.of(REPLICA));
+
+        routingDataSource = new ReplicaRoutingDataSource(lagMonitor);
+        routingDataSource.setTargetDataSources(Map.of(ReplicaRoutingDataSource.PRIMARY, primary, REPLICA, replica));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWritesContext.clear();
+    }
+
+    @SneakyThrows
+    @DisplayName("Read-only transactions should use an eligible replica")
+    @Test
+    void getConnection_InReadOnlyTransaction_ShouldUseReplica() {
+        // Prepare
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        assertSame(replicaConnection, routingDataSource.getConnection());
+    }
+
+    @SneakyThrows
+    @DisplayName("Read-write work should use the primary")
+    @Test
+    void getConnection_OutsideReadOnlyTransaction_ShouldUsePrimary() {
+        // Act & Assert
+        assertSame(primaryConnection, routingDataSource.getConnection());
+    }
+
+    @SneakyThrows
+    @DisplayName("Read-only transactions should fall back to the primary when no replica is eligible")
+    @Test
+    void getConnection_WhenReplicasLag_ShouldUsePrimary() {
+        // Prepare
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.getEligibleReplicas()).thenReturn(List.of());
+
+        // Act & Assert
+        assertSame(primaryConnection, routingDataSource.getConnection());
+    }
+
+    @SneakyThrows
+    @DisplayName("Read-only transactions should use the primary when the client must read its own writes")
+    @Test
+    void getConnection_WhenPinnedToPrimary_ShouldUsePrimary() {
+        // Prepare
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadYourWritesContext.pinToPrimary();
+
+        // Act & Assert
+        assertSame(primaryConnection, routingDataSource.getConnection());
+    }
+}
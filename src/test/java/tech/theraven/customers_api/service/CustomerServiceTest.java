@@ -2,15 +2,30 @@ package tech.theraven.customers_api.service;
 
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import tech.theraven.customers_api.exceptions.custom.EntityAlreadyExistsException;
 import tech.theraven.customers_api.exceptions.custom.EntityNotFoundException;
 import tech.theraven.customers_api.exceptions.custom.FieldUnchangedException;
+import tech.theraven.customers_api.exceptions.custom.PreconditionFailedException;
+import tech.theraven.customers_api.model.Customer;
+import tech.theraven.customers_api.model.CustomerEvent;
+import tech.theraven.customers_api.model.dto.BatchItemResult;
+import tech.theraven.customers_api.model.dto.CustomerField;
+import tech.theraven.customers_api.model.dto.CustomerFilter;
+import tech.theraven.customers_api.model.dto.CustomerSort;
+import tech.theraven.customers_api.repository.CustomerEventRepository;
+import tech.theraven.customers_api.repository.CustomerRepository;
 import tech.theraven.customers_api.testutils.FakeDataGenerator;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.NONE;
 
@@ -23,6 +38,15 @@ class CustomerServiceTest {
     @Autowired
     private CustomerService customerService;
 
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CustomerEventRepository customerEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private final int TOTAL_CUSTOMERS = 10;
 
     @Test
@@ -50,14 +74,167 @@ class CustomerServiceTest {
     }
 
     @Test
-    void getAllCustomers() {
+    void testCreateAllCustomers() {
         // Prepare
-        var customers = customerService.getAllCustomers();
+        var existingEmail = "oleksandr.kovalenko@example.com";
+        var newCustomer = FakeDataGenerator.customerBuilder().build();
+        var sameEmailCustomer = FakeDataGenerator.customerBuilder()
+                .email(newCustomer.getEmail())
+                .build();
+        var existingEmailCustomer = FakeDataGenerator.customerBuilder()
+                .email(existingEmail)
+                .build();
+
+        // Execute
+        var results = customerService.createAll(List.of(newCustomer, sameEmailCustomer, existingEmailCustomer));
+
+        // Assert
+        assertEquals(results.size(), 3);
+        assertEquals(results.get(0).status(), BatchItemResult.Status.SUCCEEDED);
+        assertNotNull(results.get(0).result().getId());
+        assertEquals(results.get(1).status(), BatchItemResult.Status.FAILED);
+        assertEquals(results.get(2).status(), BatchItemResult.Status.FAILED);
+    }
+
+    @Test
+    void getCustomers() {
+        // Prepare
+        var customers = customerService.getCustomers(0L, TOTAL_CUSTOMERS + 1);
 
         // Assert
         assertEquals(customers.size(), TOTAL_CUSTOMERS);
     }
 
+    @Test
+    void getCustomersByPages() {
+        // Prepare
+        var pageSize = TOTAL_CUSTOMERS / 2;
+
+        // Execute
+        var firstPage = customerService.getCustomers(0L, pageSize);
+        var secondPage = customerService.getCustomers(firstPage.getLast().getId(), pageSize);
+
+        // Assert
+        assertEquals(firstPage.size(), pageSize);
+        assertEquals(secondPage.size(), pageSize);
+        assertTrue(firstPage.getLast().getId() < secondPage.getFirst().getId());
+    }
+
+    @Test
+    void getCustomersFilteredByActive() {
+        // Prepare
+        var deactivatedCustomerId = 4L;
+        var activeFilter = new CustomerFilter(true, null, null, null, null, null);
+        customerService.deactivate(deactivatedCustomerId);
+
+        // Execute
+        var customers = customerService.getCustomers(activeFilter, CustomerSort.DEFAULT, null, TOTAL_CUSTOMERS);
+
+        // Assert
+        assertEquals(customers.size(), TOTAL_CUSTOMERS - 1);
+        assertTrue(customers.stream().noneMatch(customer -> customer.getId().equals(deactivatedCustomerId)));
+    }
+
+    @Test
+    void getCustomersFilteredByPhone() {
+        // Prepare
+        var withoutPhoneFilter = new CustomerFilter(null, null, null, null, null, false);
+
+        // Execute
+        var customers = customerService.getCustomers(withoutPhoneFilter, CustomerSort.DEFAULT, null, TOTAL_CUSTOMERS);
+
+        // Assert
+        assertEquals(customers.stream().map(Customer::getId).toList(), List.of(3L, 6L, 9L));
+    }
+
+    @Test
+    void getCustomersSortedByCreatedByPages() {
+        // Prepare
+        var pageSize = TOTAL_CUSTOMERS / 2;
+        var sort = new CustomerSort(CustomerSort.Field.CREATED, Sort.Direction.DESC);
+
+        // Execute
+        var firstPage = customerService.getCustomers(CustomerFilter.NONE, sort, null, pageSize);
+        var secondPage = customerService.getCustomers(CustomerFilter.NONE, sort, sort.keysOf(firstPage.getLast()), pageSize);
+
+        // Assert
+        assertEquals(firstPage.size(), pageSize);
+        assertEquals(secondPage.size(), pageSize);
+        assertFalse(firstPage.getLast().getCreated().isBefore(secondPage.getFirst().getCreated()));
+        assertTrue(firstPage.stream().noneMatch(secondPage::contains));
+    }
+
+    @Test
+    void getCustomerFieldsSortedByCreated() {
+        // Prepare
+        var fields = Set.of(CustomerField.EMAIL);
+        var sort = new CustomerSort(CustomerSort.Field.CREATED, Sort.Direction.ASC);
+
+        // Execute
+        var rows = customerService.getCustomerFields(fields, CustomerFilter.NONE, sort, null, TOTAL_CUSTOMERS);
+
+        // Assert
+        assertEquals(rows.size(), TOTAL_CUSTOMERS);
+        assertEquals(rows.getFirst().getElements().size(), 3);
+        assertEquals(rows.getFirst().get("email"), "petrov@example.com");
+        assertEquals(sort.keysOf(rows.getFirst())[1], 1L);
+    }
+
+    @Test
+    void getChangesHoldsBackUnsettledChanges() {
+        // Prepare
+        // The seeded customers are settled only once they are older than the safety lag
+        jdbcTemplate.update("UPDATE customers SET updated = updated - 3600");
+        var deactivatedCustomerId = 4L;
+        customerService.deactivate(deactivatedCustomerId);
+
+        // Execute
+        var changes = customerService.getChanges(null, TOTAL_CUSTOMERS);
+
+        // Assert
+        assertEquals(changes.stream().map(Customer::getId).toList(), List.of(1L, 2L, 3L, 5L, 6L, 7L, 8L, 9L, 10L));
+    }
+
+    @Test
+    void searchCustomers() {
+        // Execute
+        var customers = customerService.search("Koval", TOTAL_CUSTOMERS, 0L);
+
+        // Assert
+        assertEquals(customers.stream().map(Customer::getId).toList(), List.of(7L, 3L));
+    }
+
+    @Test
+    void searchCustomersByWordPrefixes() {
+        // Execute
+        var customers = customerService.search("pet iva", TOTAL_CUSTOMERS, 0L);
+
+        // Assert
+        assertEquals(customers.getFirst().getId(), 1L);
+    }
+
+    @Test
+    void searchCustomersWithLikeWildcards() {
+        // Execute
+        var customers = customerService.search("%_%", TOTAL_CUSTOMERS, 0L);
+
+        // Assert
+        assertTrue(customers.isEmpty());
+    }
+
+    @Test
+    void forEachCustomer() {
+        // Prepare
+        var exportedIds = new ArrayList<Long>();
+
+        // Execute
+        customerService.forEachCustomer(customer -> exportedIds.add(customer.getId()));
+
+        // Assert
+        assertEquals(exportedIds.size(), TOTAL_CUSTOMERS);
+        assertEquals(exportedIds, exportedIds.stream().sorted().toList());
+    }
+
     @Test
     void getCustomerById() {
         // Prepare
@@ -67,6 +244,19 @@ class CustomerServiceTest {
         assertNotNull(customerService.getById(existingCustomerId));
     }
 
+    @Test
+    void getAllCustomersById() {
+        // Prepare
+        var nonExistingCustomerId = 999_999L;
+
+        // Execute
+        var result = customerService.getAllById(List.of(7L, nonExistingCustomerId, 3L, 7L));
+
+        // Assert
+        assertEquals(result.found().stream().map(Customer::getId).toList(), List.of(7L, 3L));
+        assertEquals(result.missingIds(), List.of(nonExistingCustomerId));
+    }
+
     @Test
     void getCustomerByIdWhenCustomerNotFound() {
         // Prepare
@@ -91,6 +281,71 @@ class CustomerServiceTest {
         assertEquals(updatedCustomer.getPhone(), customer.getPhone());
     }
 
+    @Test
+    void updateCustomerWithExpectedVersion() {
+        // Prepare
+        var existingCustomerId = 1L;
+        var initialVersion = 0L;
+        var customer = FakeDataGenerator.customerBuilder().build();
+
+        // Execute
+        var updatedCustomer = customerService.update(existingCustomerId, customer, initialVersion);
+
+        // Assert
+        assertEquals(updatedCustomer.getId(), existingCustomerId);
+        assertEquals(updatedCustomer.getFullName(), customer.getFullName());
+        assertEquals(updatedCustomer.getPhone(), customer.getPhone());
+        assertEquals(updatedCustomer.getVersion(), initialVersion + 1);
+    }
+
+    @Test
+    void updateCustomerWhenCustomerIsManaged() {
+        // Prepare
+        var existingCustomerId = 1L;
+        var managedCustomer = customerRepository.findById(existingCustomerId).orElseThrow();
+        var changedEmail = "changed.email@example.com";
+        managedCustomer.setEmail(changedEmail);
+        var customer = FakeDataGenerator.customerBuilder().build();
+
+        // Execute
+        var updatedCustomer = customerService.update(existingCustomerId, customer);
+
+        // Assert
+        assertEquals(updatedCustomer.getFullName(), customer.getFullName());
+        assertEquals(updatedCustomer.getPhone(), customer.getPhone());
+        assertEquals(updatedCustomer.getEmail(), changedEmail);
+        assertEquals(jdbcTemplate.queryForObject("SELECT email FROM customers WHERE id = ?", String.class, existingCustomerId),
+                changedEmail);
+    }
+
+    @Test
+    void updateCustomerWithExpectedVersionWhenCustomerIsManaged() {
+        // Prepare
+        var existingCustomerId = 1L;
+        var managedCustomer = customerRepository.findById(existingCustomerId).orElseThrow();
+        var customer = FakeDataGenerator.customerBuilder().build();
+
+        // Execute
+        var updatedCustomer = customerService.update(existingCustomerId, customer, managedCustomer.getVersion());
+
+        // Assert
+        assertEquals(updatedCustomer.getFullName(), customer.getFullName());
+        assertEquals(updatedCustomer.getPhone(), customer.getPhone());
+        assertEquals(updatedCustomer.getVersion(), managedCustomer.getVersion() + 1);
+    }
+
+    @Test
+    void updateCustomerWhenVersionDoesNotMatch() {
+        // Prepare
+        var existingCustomerId = 1L;
+        var staleVersion = 42L;
+        var customer = FakeDataGenerator.customerBuilder().build();
+
+        // Assert
+        assertThrows(PreconditionFailedException.class,
+                () -> customerService.update(existingCustomerId, customer, staleVersion));
+    }
+
     @Test
     void updateCustomerWhenCustomerNotFound() {
         // Prepare
@@ -114,6 +369,67 @@ class CustomerServiceTest {
         assertFalse(deactivatedCustomer.getIsActive());
     }
 
+    @Test
+    void changesAreRecordedInOutbox() {
+        // Prepare
+        var customer = FakeDataGenerator.customerBuilder().build();
+
+        // Execute
+        var customerId = customerService.create(customer).getId();
+        customerService.update(customerId, FakeDataGenerator.customerBuilder().build());
+        customerService.deactivate(customerId);
+
+        // Assert
+        var events = customerEventRepository.findByCustomerIdOrderByIdAsc(customerId);
+        assertEquals(events.stream().map(CustomerEvent::getType).toList(),
+                List.of(CustomerEvent.Type.CREATED, CustomerEvent.Type.UPDATED, CustomerEvent.Type.DEACTIVATED));
+        assertTrue(events.getLast().getPayload().contains("\"active\": false"));
+    }
+
+    @Test
+    void deactivateAllCustomers() {
+        // Prepare
+        var inactiveCustomerId = 1L;
+        var activeCustomerId = 2L;
+        var nonExistingCustomerId = 999_999L;
+        customerService.deactivate(inactiveCustomerId);
+
+        // Execute
+        var summary = customerService.deactivateAll(List.of(inactiveCustomerId, activeCustomerId, nonExistingCustomerId));
+
+        // Assert
+        assertEquals(summary.deactivated(), 1);
+        assertEquals(summary.alreadyInactive(), 1);
+        assertEquals(summary.notFound(), 1);
+        assertFalse(customerService.getById(activeCustomerId).getIsActive());
+    }
+
+    @Test
+    void deactivateAllCustomersRecordsEventsOnlyForDeactivatedCustomers() {
+        // Prepare
+        var inactiveCustomerId = 1L;
+        var activeCustomerId = 2L;
+        customerService.deactivate(inactiveCustomerId);
+
+        // Execute
+        customerService.deactivateAll(List.of(inactiveCustomerId, activeCustomerId));
+
+        // Assert
+        assertEquals(customerEventRepository.findByCustomerIdOrderByIdAsc(inactiveCustomerId).size(), 1);
+        var events = customerEventRepository.findByCustomerIdOrderByIdAsc(activeCustomerId);
+        assertEquals(events.stream().map(CustomerEvent::getType).toList(), List.of(CustomerEvent.Type.DEACTIVATED));
+        assertTrue(events.getFirst().getPayload().contains("\"active\": false"));
+    }
+
+    @Test
+    void deactivateAllCustomersWhenCustomersNotFound() {
+        // Prepare
+        var nonExistingCustomerIds = List.of(999_998L, 999_999L);
+
+        // Assert
+        assertThrows(EntityNotFoundException.class, () -> customerService.deactivateAll(nonExistingCustomerIds));
+    }
+
     @Test
     void deactivateCustomerWhenCustomerNotFound() {
         // Prepare